@@ -0,0 +1,517 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import multij.events.AbstractObservable;
+import multij.events.Observable;
+import multij.events.Variable;
+import multij.tools.Tools;
+
+/**
+ * Variable whose value is computed from other variables, which are recorded as dependencies while computing.
+ * <br>A change of a dependency only marks this variable (and transitively its dependents) as dirty;
+ * the value is recomputed lazily when it is read.
+ * <br>Computed variables that have listeners are recomputed at the end of the current batch (see {@link #batch(Runnable)}),
+ * in topological order, so that each of their listeners is notified at most once per batch and never sees stale values.
+ * <br>Instances are not thread-safe, and batches are per thread.
+ * 
+ * @param <T> The type of the variable value
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ComputedVariable<T> extends AbstractObservable<Variable.Listener<T>> implements Variable<T> {
+	
+	private final Class<T> type;
+	
+	private final String name;
+	
+	private final Computation<T> computation;
+	
+	private final DependencyListener dependencyListener;
+	
+	private final Set<ComputedVariable<?>> dependents;
+	
+	private Set<Variable<?>> dependencies;
+	
+	private Map<Context, Set<String>> contextDependencies;
+	
+	private T value;
+	
+	private boolean dirty;
+	
+	private boolean computing;
+	
+	private transient boolean scheduled;
+	
+	private transient T notifiedValue;
+	
+	private int level;
+	
+	/**
+	 * @param type
+	 * <br>Not null
+	 * @param name
+	 * <br>Not null
+	 * @param computation
+	 * <br>Not null
+	 */
+	public ComputedVariable(final Class<T> type, final String name, final Computation<T> computation) {
+		this.type = type;
+		this.name = name;
+		this.computation = computation;
+		this.dependencyListener = new DependencyListener(this);
+		this.dependents = Collections.newSetFromMap(new IdentityHashMap<ComputedVariable<?>, Boolean>());
+		this.dependencies = Collections.emptySet();
+		this.contextDependencies = Collections.emptyMap();
+		this.dirty = true;
+	}
+	
+	@Override
+	public final Class<T> getType() {
+		return this.type;
+	}
+	
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+	
+	/**
+	 * Recomputes the value first if it is dirty.
+	 */
+	@Override
+	public final T getValue() {
+		if (this.dirty) {
+			this.recompute();
+		}
+		
+		return this.value;
+	}
+	
+	/**
+	 * @throws UnsupportedOperationException Always
+	 */
+	@Override
+	public final void setValue(final T value) {
+		throw new UnsupportedOperationException("Computed variable: " + this.getName());
+	}
+	
+	public final boolean isDirty() {
+		return this.dirty;
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
+	public final Set<Variable<?>> getDependencies() {
+		return new LinkedHashSet<Variable<?>>(this.dependencies);
+	}
+	
+	/**
+	 * Unsubscribes from all dependencies and marks this variable as dirty.
+	 */
+	public final void dispose() {
+		this.updateDependencies(Collections.<Variable<?>>emptySet(), Collections.<Context, Set<String>>emptyMap());
+		this.dirty = true;
+	}
+	
+	@Override
+	public final String toString() {
+		return "ComputedVariable { " + this.getType() + " " + this.getName() + " " + (this.dirty ? "<dirty>" : this.value) + " }";
+	}
+	
+	final boolean dependsOn(final Context context, final String variableName) {
+		final Set<String> names = this.contextDependencies.get(context);
+		
+		return names != null && names.contains(variableName);
+	}
+	
+	/**
+	 * Marks this variable and its dependents as dirty,
+	 * and schedules the recomputation of those that have listeners.
+	 */
+	final void invalidate() {
+		if (this.getListenerArray().length != 0 && !this.scheduled) {
+			// The listeners last saw the value held before the first invalidation since the last refresh
+			this.scheduled = true;
+			this.notifiedValue = this.value;
+			Batch.get().schedule(this);
+		}
+		
+		if (this.dirty) {
+			// Dependents are already dirty, since they recompute this variable before computing themselves
+			return;
+		}
+		
+		this.dirty = true;
+		
+		for (final ComputedVariable<?> dependent : this.dependents.toArray(new ComputedVariable<?>[this.dependents.size()])) {
+			dependent.invalidate();
+		}
+	}
+	
+	/**
+	 * Recomputes the value if necessary and notifies the listeners if it differs from the last notified value,
+	 * even if it has already been recomputed by a read since the invalidation.
+	 */
+	final void refresh() {
+		final T oldValue = this.notifiedValue;
+		final T newValue = this.getValue();
+		
+		this.scheduled = false;
+		this.notifiedValue = null;
+		
+		if (!Tools.equals(oldValue, newValue)) {
+			this.new ValueChangedEvent(oldValue, newValue).fire();
+		}
+	}
+	
+	final int getLevel() {
+		return this.level;
+	}
+	
+	private final void recompute() {
+		if (this.computing) {
+			throw new IllegalStateException("Cyclic dependency: " + this.getName());
+		}
+		
+		this.computing = true;
+		
+		try {
+			final Reader reader = new Reader();
+			
+			this.value = this.computation.compute(reader);
+			this.dirty = false;
+			
+			this.updateDependencies(reader.dependencies, reader.contextDependencies);
+		} finally {
+			this.computing = false;
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private final void updateDependencies(final Set<Variable<?>> newDependencies, final Map<Context, Set<String>> newContextDependencies) {
+		for (final Variable<?> dependency : this.dependencies) {
+			if (!newDependencies.contains(dependency)) {
+				if (dependency instanceof ComputedVariable) {
+					((ComputedVariable<?>) dependency).dependents.remove(this);
+				} else {
+					((Variable<Object>) dependency).removeListener(this.dependencyListener);
+				}
+			}
+		}
+		
+		int newLevel = 0;
+		
+		for (final Variable<?> dependency : newDependencies) {
+			if (dependency instanceof ComputedVariable) {
+				final ComputedVariable<?> computedDependency = (ComputedVariable<?>) dependency;
+				
+				computedDependency.dependents.add(this);
+				newLevel = Math.max(newLevel, computedDependency.getLevel() + 1);
+			} else if (!this.dependencies.contains(dependency)) {
+				((Variable<Object>) dependency).addListener(this.dependencyListener);
+			}
+		}
+		
+		for (final Context context : this.contextDependencies.keySet()) {
+			if (!newContextDependencies.containsKey(context)) {
+				context.removeListener(this.dependencyListener);
+			}
+		}
+		
+		for (final Context context : newContextDependencies.keySet()) {
+			if (!this.contextDependencies.containsKey(context)) {
+				context.addListener(this.dependencyListener);
+			}
+		}
+		
+		this.dependencies = newDependencies;
+		this.contextDependencies = newContextDependencies;
+		this.level = newLevel;
+	}
+	
+	/**
+	 * {@value}.
+	 */
+	private static final long serialVersionUID = -1752651434812298616L;
+	
+	private static final ThreadLocal<Batch> batches = ThreadLocal.withInitial(Batch::new);
+	
+	/**
+	 * Runs <code>action</code>, deferring the recomputation and notification of observed computed variables
+	 * until the outermost batch of the current thread ends.
+	 * 
+	 * @param action
+	 * <br>Not null
+	 */
+	public static final void batch(final Runnable action) {
+		final Batch batch = Batch.get();
+		
+		++batch.depth;
+		
+		try {
+			action.run();
+		} finally {
+			if (--batch.depth == 0) {
+				batch.flush();
+			}
+		}
+	}
+	
+	/**
+	 * @param <T> The type of the computed value
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface Computation<T> {
+		
+		/**
+		 * @param reader
+		 * <br>Not null
+		 * <br>The variables read through it are the dependencies of the computed variable
+		 * @return
+		 * <br>Maybe null
+		 */
+		public abstract T compute(Reader reader);
+		
+	}
+	
+	/**
+	 * Records the dependencies of one computation.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static final class Reader {
+		
+		final Set<Variable<?>> dependencies = Collections.newSetFromMap(new IdentityHashMap<Variable<?>, Boolean>());
+		
+		final Map<Context, Set<String>> contextDependencies = new IdentityHashMap<Context, Set<String>>();
+		
+		Reader() {
+			// Deliberately left empty
+		}
+		
+		/**
+		 * @param variable
+		 * <br>Not null
+		 * @return
+		 * <br>Maybe null
+		 */
+		public final <U> U get(final Variable<U> variable) {
+			this.dependencies.add(variable);
+			
+			return variable.getValue();
+		}
+		
+		/**
+		 * Depends on the variable currently named <code>variableName</code> in <code>context</code>,
+		 * and on the addition or removal of variables with that name.
+		 * 
+		 * @param context
+		 * <br>Not null
+		 * @param variableName
+		 * <br>Not null
+		 * @return
+		 * <br>Maybe null
+		 */
+		public final <U> U get(final Context context, final String variableName) {
+			Set<String> names = this.contextDependencies.get(context);
+			
+			if (names == null) {
+				names = new LinkedHashSet<String>();
+				this.contextDependencies.put(context, names);
+			}
+			
+			names.add(variableName);
+			
+			final Variable<U> variable = context.getVariable(variableName);
+			
+			return variable == null ? null : this.get(variable);
+		}
+		
+	}
+	
+	/**
+	 * Listens to the plain variables and contexts that a computed variable depends on.
+	 * <br>The first instance notified of an event invalidates all the computed variables that listen to its source
+	 * in a single batch, so that none of them is refreshed while another one still holds a stale value;
+	 * it marks the instances that come after it in the listener array, and each mark is consumed by the next notification,
+	 * so that an event that is re-armed and fired again is processed again.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class DependencyListener implements Variable.Listener<Object>, Context.Listener {
+		
+		private final ComputedVariable<?> owner;
+		
+		/**
+		 * Event whose current dispatch has already been processed by a preceding listener of its source.
+		 */
+		private Object processedEvent;
+		
+		DependencyListener(final ComputedVariable<?> owner) {
+			this.owner = owner;
+		}
+		
+		@Override
+		public final void valueChanged(final Variable.ValueChangedEvent<Object, ?> event) {
+			this.invalidateAll(event, event.getSource(), null);
+		}
+		
+		@Override
+		public final void variableAdded(final Context.VariableAddedEvent<?> event) {
+			this.invalidateAll(event, event.getSource(), event.getVariable().getName());
+		}
+		
+		@Override
+		public final void variableRemoved(final Context.VariableRemovedEvent<?> event) {
+			this.invalidateAll(event, event.getSource(), event.getVariable().getName());
+		}
+		
+		private final void invalidateAll(final Object event, final Observable<?> source, final String variableName) {
+			final boolean processed = this.processedEvent == event;
+			
+			this.processedEvent = null;
+			
+			if (processed) {
+				return;
+			}
+			
+			batch(() -> {
+				boolean followsThis = false;
+				
+				for (final Object listener : source.getListeners()) {
+					if (listener == this) {
+						followsThis = true;
+					} else if (listener instanceof DependencyListener && followsThis) {
+						// The preceding listeners have already been notified of this dispatch
+						((DependencyListener) listener).processedEvent = event;
+					}
+					
+					if (listener instanceof DependencyListener) {
+						final DependencyListener dependencyListener = (DependencyListener) listener;
+						
+						if (variableName == null || dependencyListener.owner.dependsOn((Context) source, variableName)) {
+							dependencyListener.owner.invalidate();
+						}
+					}
+				}
+			});
+		}
+		
+	}
+	
+	/**
+	 * Observed computed variables waiting to be refreshed on one thread.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class Batch {
+		
+		int depth;
+		
+		private final Set<ComputedVariable<?>> pending = new LinkedHashSet<ComputedVariable<?>>();
+		
+		final void schedule(final ComputedVariable<?> variable) {
+			this.pending.add(variable);
+		}
+		
+		/**
+		 * Refreshes the pending variables by increasing level, until no more variables are pending.
+		 */
+		final void flush() {
+			++this.depth;
+			
+			try {
+				while (!this.pending.isEmpty()) {
+					final List<ComputedVariable<?>> variables = new ArrayList<ComputedVariable<?>>(this.pending);
+					
+					this.pending.clear();
+					variables.sort(Comparator.comparingInt(ComputedVariable::getLevel));
+					
+					for (final ComputedVariable<?> variable : variables) {
+						variable.refresh();
+					}
+				}
+			} finally {
+				--this.depth;
+			}
+		}
+		
+		static final Batch get() {
+			return batches.get();
+		}
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public final class ValueChangedEvent
+			extends AbstractObservable<Variable.Listener<T>>.AbstractEvent<ComputedVariable<T>, Variable.Listener<T>>
+			implements Variable.ValueChangedEvent<T, ComputedVariable<T>> {
+		
+		private final T oldValue;
+		
+		private final T newValue;
+		
+		ValueChangedEvent(final T oldValue, final T newValue) {
+			this.oldValue = oldValue;
+			this.newValue = newValue;
+		}
+		
+		@Override
+		public final T getOldValue() {
+			return this.oldValue;
+		}
+		
+		@Override
+		public final T getNewValue() {
+			return this.newValue;
+		}
+		
+		@Override
+		protected final void notifyListener(final Variable.Listener<T> listener) {
+			listener.valueChanged(this);
+		}
+		
+		/**
+		 * {@value}.
+		 */
+		private static final long serialVersionUID = -5862853640520008035L;
+		
+	}
+	
+}
@@ -26,24 +26,89 @@ package multij.context;
 
 import static java.util.Collections.unmodifiableCollection;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import multij.events.AbstractObservable;
 import multij.events.AtomicVariable;
 import multij.events.Variable;
+import multij.tools.WeakBag;
 
 /**
+ * Named variables that can be shared between threads.
+ * <br>Reads are lock-free; structural changes (adding, replacing and removing variables) are serialized,
+ * and their events are fired before the next structural change begins, so that listeners see them in the same order as the map.
+ * <br>A context can have a parent, to which it delegates the lookup of the variables it doesn't contain;
+ * creating a child context is cheap, so that shared variables don't need to be copied into each new context.
+ * <br>Inherited lookups are memoized, and the memo is invalidated when variables are added to or removed from an ancestor;
+ * such changes are also reported to the listeners of the child context unless it shadows them with its own variables.
+ * <br>Shadowing is reported symmetrically: adding a variable that shadows an inherited one fires a {@link VariableRemovedEvent}
+ * for the latter before the {@link VariableAddedEvent}, and removing it fires the opposite pair.
+ * <br>A context never takes the update lock of its children while holding its own:
+ * its changes are reported to its children after its update lock has been released,
+ * so the events of a child may interleave with concurrent changes of its ancestors.
  *
  * @author codistmonk (creation 2010-06-20)
  */
 public final class Context extends AbstractObservable<Context.Listener> implements Iterable<Variable<?>> {
 	
-	private final Map<String, Variable<?>> variables;
+	private final Context parent;
+	
+	private final ConcurrentMap<String, Variable<?>> variables;
+	
+	private final ReentrantLock updateLock;
+	
+	private volatile Bindings bindings;
+	
+	private volatile long inheritanceVersion;
+	
+	private transient volatile ConcurrentMap<String, Object> inheritedVariables;
+	
+	private transient volatile WeakBag<Context> children;
+	
+	private transient List<InheritedChange> pendingInheritedChanges;
 
 	public Context() {
-		this.variables = new HashMap<String, Variable<?>>();
+		this(null);
+	}
+
+	/**
+	 * @param parent
+	 * <br>Maybe null
+	 * <br>Shared
+	 */
+	public Context(final Context parent) {
+		this.parent = parent;
+		this.variables = new ConcurrentHashMap<String, Variable<?>>();
+		this.updateLock = new ReentrantLock();
+		this.bindings = Bindings.EMPTY;
+
+		if (parent != null) {
+			parent.addChild(this);
+		}
+	}
+
+	/**
+	 * @return
+	 * <br>Maybe null
+	 * <br>Shared
+	 */
+	public final Context getParent() {
+		return this.parent;
 	}
 
 	/**
@@ -74,13 +139,16 @@ public final class Context extends AbstractObservable<Context.Listener> implemen
 	 * @return The old value
 	 * <br>Maybe null
 	 */
+	@SuppressWarnings("unchecked")
 	public final <T> T set(final String variableName, final T value, final Class<T> variableType) {
-		final Variable<T> variable = this.getVariable(variableName);
+		Variable<T> variable = (Variable<T>) this.variables.get(variableName);
 
 		if (variable == null) {
-			this.putVariable(new AtomicVariable<T>(variableType, variableName, value));
+			variable = this.putVariableIfAbsent(new AtomicVariable<T>(variableType, variableName, value));
 
-			return null;
+			if (variable == null) {
+				return null;
+			}
 		}
 
 		final T oldValue = variable.getValue();
@@ -107,6 +175,8 @@ public final class Context extends AbstractObservable<Context.Listener> implemen
 	}
 
 	/**
+	 * If the removed variable was shadowing an inherited one,
+	 * a {@link VariableAddedEvent} is fired for the latter after the {@link VariableRemovedEvent}.
 	 *
 	 * @param <T> The type of the variable value
 	 * @param variableName
@@ -115,14 +185,17 @@ public final class Context extends AbstractObservable<Context.Listener> implemen
 	 * <br>Maybe null
 	 */
 	public final <T> Variable<T> remove(final String variableName) {
-		@SuppressWarnings("unchecked")
-		final Variable<T> removedVariable = (Variable<T>) this.variables.remove(variableName);
-
-		if (removedVariable != null) {
-			new VariableRemovedEvent<T>(removedVariable).fire();
+		if (variableName == null) {
+			return null;
 		}
 
-		return removedVariable;
+		this.lock();
+
+		try {
+			return this.replaceVariable(variableName, null);
+		} finally {
+			this.unlock();
+		}
 	}
 
 	/**
@@ -130,13 +203,42 @@ public final class Context extends AbstractObservable<Context.Listener> implemen
 	 * @param <T> The type of the variable value
 	 * @param variableName
 	 * <br>Not null
-	 * @return
+	 * @return The variable of this context, or else the one inherited from the parent
 	 * <br>Maybe null
 	 * <br>Shared
 	 */
 	@SuppressWarnings("unchecked")
 	public final <T> Variable<T> getVariable(final String variableName) {
-		return (Variable<T>) this.variables.get(variableName);
+		final Variable<?> result = this.variables.get(variableName);
+
+		if (result != null || this.getParent() == null) {
+			return (Variable<T>) result;
+		}
+
+		ConcurrentMap<String, Object> inheritedVariables = this.inheritedVariables;
+		Object inheritedVariable = inheritedVariables == null ? null : inheritedVariables.get(variableName);
+
+		if (inheritedVariable == null) {
+			final long version = this.inheritanceVersion;
+			final Variable<?> parentVariable = this.getParent().getVariable(variableName);
+
+			inheritedVariable = parentVariable == null ? NO_VARIABLE : parentVariable;
+
+			if (inheritedVariables == null) {
+				// Concurrent initializations can only lose memoized lookups
+				inheritedVariables = new ConcurrentHashMap<String, Object>();
+				this.inheritedVariables = inheritedVariables;
+			}
+
+			inheritedVariables.put(variableName, inheritedVariable);
+
+			if (version != this.inheritanceVersion) {
+				// An ancestor changed during the lookup
+				inheritedVariables.remove(variableName);
+			}
+		}
+
+		return inheritedVariable == NO_VARIABLE ? null : (Variable<T>) inheritedVariable;
 	}
 
 	/**
@@ -150,24 +252,811 @@ public final class Context extends AbstractObservable<Context.Listener> implemen
 	 * <br>Maybe null
 	 */
 	public final <T, U> Variable<U> putVariable(final Variable<T> variable) {
-		final Variable<U> oldVariable = this.remove(variable.getName());
+		this.lock();
 
-		this.variables.put(variable.getName(), variable);
+		try {
+			return this.replaceVariable(variable.getName(), variable);
+		} finally {
+			this.unlock();
+		}
+	}
 
-		new VariableAddedEvent<T>(variable).fire();
+	/**
+	 * Atomically adds <code>variable</code> unless a variable with the same name already exists.
+	 *
+	 * @param <T> The type of the variable value
+	 * @param variable
+	 * <br>Not null
+	 * <br>Shared
+	 * @return The existing variable, or null if <code>variable</code> was added
+	 * <br>Maybe null
+	 */
+	@SuppressWarnings("unchecked")
+	public final <T> Variable<T> putVariableIfAbsent(final Variable<T> variable) {
+		final Variable<T> existingVariable = (Variable<T>) this.variables.get(variable.getName());
+
+		if (existingVariable != null) {
+			return existingVariable;
+		}
+
+		this.lock();
+
+		try {
+			final Variable<T> result = (Variable<T>) this.variables.get(variable.getName());
+
+			if (result == null) {
+				this.replaceVariable(variable.getName(), variable);
+			}
+
+			return result;
+		} finally {
+			this.unlock();
+		}
+	}
+
+	/**
+	 * Atomically returns the variable named <code>variableName</code>,
+	 * adding the one created by <code>factory</code> if there is none.
+	 * <br><code>factory</code> is called at most once, and only if the variable is absent.
+	 *
+	 * @param <T> The type of the variable value
+	 * @param variableName
+	 * <br>Not null
+	 * @param factory
+	 * <br>Not null
+	 * <br>Must return a variable named <code>variableName</code>, or null
+	 * @return
+	 * <br>Maybe null
+	 * <br>Shared
+	 */
+	@SuppressWarnings("unchecked")
+	public final <T> Variable<T> computeVariableIfAbsent(final String variableName, final Function<String, Variable<T>> factory) {
+		final Variable<T> existingVariable = (Variable<T>) this.variables.get(variableName);
+
+		if (existingVariable != null) {
+			return existingVariable;
+		}
+
+		return this.computeVariable(variableName, (name, oldVariable) -> oldVariable != null ? oldVariable : factory.apply(name));
+	}
+
+	/**
+	 * Atomically replaces the variable named <code>variableName</code> with the one returned by <code>remapping</code>.
+	 * <br>If the variable changes, a {@link VariableRemovedEvent} is fired for the old variable (if any),
+	 * followed by a {@link VariableAddedEvent} for the new one (if any),
+	 * where a missing variable stands for the inherited one (if any).
+	 *
+	 * @param <T> The type of the variable value
+	 * @param variableName
+	 * <br>Not null
+	 * @param remapping
+	 * <br>Not null
+	 * <br>Called with the name and the current variable (maybe null)
+	 * <br>Must return a variable named <code>variableName</code>, or null to remove the variable
+	 * @return The new variable
+	 * <br>Maybe null
+	 * <br>Shared
+	 */
+	@SuppressWarnings("unchecked")
+	public final <T> Variable<T> computeVariable(final String variableName, final BiFunction<String, Variable<T>, Variable<T>> remapping) {
+		this.lock();
+
+		try {
+			final Variable<T> oldVariable = (Variable<T>) this.variables.get(variableName);
+			final Variable<T> newVariable = remapping.apply(variableName, oldVariable);
+
+			if (newVariable == oldVariable) {
+				return newVariable;
+			}
 
-		return oldVariable;
+			if (newVariable != null && !variableName.equals(newVariable.getName())) {
+				throw new IllegalArgumentException("Invalid variable name: " + newVariable.getName() + " (expected: " + variableName + ")");
+			}
+
+			this.replaceVariable(variableName, newVariable);
+
+			return newVariable;
+		} finally {
+			this.unlock();
+		}
 	}
 
+	/**
+	 * Iterates over the variables of this context, followed by the inherited variables that they don't shadow.
+	 * <br>The iteration is weakly consistent: it never throws a {@link java.util.ConcurrentModificationException}
+	 * and may or may not reflect changes made after the iterator was created.
+	 */
 	@Override
 	public final Iterator<Variable<?>> iterator() {
-		return unmodifiableCollection(this.variables.values()).iterator();
+		if (this.getParent() == null) {
+			return unmodifiableCollection(this.variables.values()).iterator();
+		}
+
+		final Map<String, Variable<?>> visibleVariables = new LinkedHashMap<String, Variable<?>>(this.variables);
+
+		for (final Variable<?> inheritedVariable : this.getParent()) {
+			visibleVariables.putIfAbsent(inheritedVariable.getName(), inheritedVariable);
+		}
+
+		return unmodifiableCollection(visibleVariables.values()).iterator();
+	}
+
+	/**
+	 * Takes an immutable snapshot of the variables of this context and of its ancestors,
+	 * in constant time per context in the chain.
+	 * <br>The snapshot records which variables are bound to which names;
+	 * the values are still read from the variables themselves.
+	 *
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
+	public final Snapshot snapshot() {
+		return new Snapshot(this.bindings, this.getParent() == null ? null : this.getParent().snapshot());
+	}
+
+	/**
+	 * Atomically replaces the variable named <code>variableName</code> in the map,
+	 * so that concurrent readers never see it missing, then fires the corresponding events,
+	 * in which a missing local variable stands for the inherited one (if any).
+	 * <br>Must be called while holding <code>this.updateLock</code>.
+	 *
+	 * @param variable
+	 * <br>Maybe null to remove the variable
+	 * @return The old variable
+	 * <br>Maybe null
+	 */
+	@SuppressWarnings("unchecked")
+	private final <T> Variable<T> replaceVariable(final String variableName, final Variable<?> variable) {
+		final Variable<T> result;
+
+		if (variable == null) {
+			result = (Variable<T>) this.variables.remove(variableName);
+
+			if (result == null) {
+				return null;
+			}
+
+			this.bindings = this.bindings.minus(variableName);
+		} else {
+			result = (Variable<T>) this.variables.put(variableName, variable);
+			this.bindings = this.bindings.plus(variableName, variable);
+		}
+
+		final Variable<?> inheritedVariable = result == null || variable == null ? this.getInheritedVariable(variableName) : null;
+		final Variable<?> removedVariable = result != null ? result : inheritedVariable;
+		final Variable<?> addedVariable = variable != null ? variable : inheritedVariable;
+
+		if (removedVariable != null) {
+			this.fireVariableRemoved(removedVariable);
+		}
+
+		if (addedVariable != null) {
+			this.fireVariableAdded(addedVariable);
+		}
+
+		return result;
+	}
+
+	private final Variable<?> getInheritedVariable(final String variableName) {
+		return this.getParent() == null ? null : this.getParent().getVariable(variableName);
+	}
+
+	private final void lock() {
+		this.updateLock.lock();
+	}
+
+	/**
+	 * Releases <code>this.updateLock</code>, then reports the pending changes to the children
+	 * if the lock is no longer held by the current thread.
+	 */
+	private final void unlock() {
+		List<InheritedChange> changes = null;
+
+		if (this.updateLock.getHoldCount() == 1) {
+			changes = this.pendingInheritedChanges;
+			this.pendingInheritedChanges = null;
+		}
+
+		this.updateLock.unlock();
+
+		if (changes != null) {
+			for (final InheritedChange change : changes) {
+				for (final Context child : this.getChildren()) {
+					child.inheritedVariableChanged(change.getVariable(), change.isAdded());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Must be called while holding <code>this.updateLock</code>.
+	 */
+	private final <T> void fireVariableAdded(final Variable<T> variable) {
+		new VariableAddedEvent<T>(variable).fire();
+
+		this.scheduleInheritedChange(variable, true);
+	}
+
+	/**
+	 * Must be called while holding <code>this.updateLock</code>.
+	 */
+	private final <T> void fireVariableRemoved(final Variable<T> variable) {
+		new VariableRemovedEvent<T>(variable).fire();
+
+		this.scheduleInheritedChange(variable, false);
+	}
+
+	/**
+	 * Invalidates the memoized lookups of the descendants right away,
+	 * and defers the events of the children until <code>this.updateLock</code> is released.
+	 * <br>Must be called while holding <code>this.updateLock</code>.
+	 */
+	private final void scheduleInheritedChange(final Variable<?> variable, final boolean added) {
+		if (this.children == null) {
+			return;
+		}
+
+		this.invalidateInheritedVariable(variable.getName());
+
+		if (this.pendingInheritedChanges == null) {
+			this.pendingInheritedChanges = new ArrayList<InheritedChange>();
+		}
+
+		this.pendingInheritedChanges.add(new InheritedChange(variable, added));
+	}
+
+	/**
+	 * Takes no lock.
+	 */
+	private final void invalidateInheritedVariable(final String variableName) {
+		for (final Context child : this.getChildren()) {
+			final Map<String, Object> inheritedVariables = child.inheritedVariables;
+
+			++child.inheritanceVersion;
+
+			if (inheritedVariables != null) {
+				inheritedVariables.remove(variableName);
+			}
+
+			child.invalidateInheritedVariable(variableName);
+		}
+	}
+
+	/**
+	 * Called by the parent after it has released its update lock.
+	 */
+	private final void inheritedVariableChanged(final Variable<?> variable, final boolean added) {
+		this.lock();
+
+		try {
+			if (!this.variables.containsKey(variable.getName())) {
+				if (added) {
+					this.fireVariableAdded(variable);
+				} else {
+					this.fireVariableRemoved(variable);
+				}
+			}
+		} finally {
+			this.unlock();
+		}
+	}
+
+	/**
+	 * The bag is created on first use, so that contexts without children don't allocate it.
+	 */
+	private final void addChild(final Context child) {
+		WeakBag<Context> children = this.children;
+
+		if (children == null) {
+			this.updateLock.lock();
+
+			try {
+				children = this.children;
+
+				if (children == null) {
+					children = new WeakBag<Context>();
+					this.children = children;
+				}
+			} finally {
+				this.updateLock.unlock();
+			}
+		}
+
+		children.append(child);
+	}
+
+	private final Iterable<Context> getChildren() {
+		final WeakBag<Context> children = this.children;
+
+		return children == null ? Collections.<Context>emptyList() : children;
+	}
+
+	private final void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+		input.defaultReadObject();
+
+		if (this.getParent() != null) {
+			this.getParent().addChild(this);
+		}
 	}
 
 	/**
 	 * {@value}.
 	 */
-	private static final long serialVersionUID = 6781146243444157285L;
+	private static final long serialVersionUID = 1329683446406380617L;
+
+	/**
+	 * Memoizes inherited lookups that found no variable.
+	 */
+	private static final Object NO_VARIABLE = new Object();
+
+	/**
+	 * Addition or removal of a variable, waiting to be reported to the children of a context.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class InheritedChange {
+
+		private final Variable<?> variable;
+
+		private final boolean added;
+
+		InheritedChange(final Variable<?> variable, final boolean added) {
+			this.variable = variable;
+			this.added = added;
+		}
+
+		final Variable<?> getVariable() {
+			return this.variable;
+		}
+
+		final boolean isAdded() {
+			return this.added;
+		}
+
+	}
+
+	/**
+	 * Immutable view of the variables of a context and of its ancestors at some point in time.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static final class Snapshot implements Iterable<Variable<?>>, Serializable {
+
+		private final Bindings bindings;
+
+		private final Snapshot parent;
+
+		Snapshot(final Bindings bindings, final Snapshot parent) {
+			this.bindings = bindings;
+			this.parent = parent;
+		}
+
+		/**
+		 * @return
+		 * <br>Maybe null
+		 * <br>Shared
+		 */
+		public final Snapshot getParent() {
+			return this.parent;
+		}
+
+		/**
+		 * @param <T> The type of the variable value
+		 * @param variableName
+		 * <br>Not null
+		 * @return
+		 * <br>Maybe null
+		 * <br>Shared
+		 */
+		@SuppressWarnings("unchecked")
+		public final <T> Variable<T> getVariable(final String variableName) {
+			for (Snapshot snapshot = this; snapshot != null; snapshot = snapshot.getParent()) {
+				final Variable<?> result = snapshot.bindings.get(variableName);
+
+				if (result != null) {
+					return (Variable<T>) result;
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * @param <T> The type of the variable value
+		 * @param variableName
+		 * <br>Not null
+		 * @return
+		 * <br>Maybe null
+		 * <br>Shared
+		 */
+		public final <T> T get(final String variableName) {
+			final Variable<T> variable = this.getVariable(variableName);
+
+			return variable == null ? null : variable.getValue();
+		}
+
+		/**
+		 * Iterates over the variables of the snapshot, followed by the inherited variables that they don't shadow.
+		 */
+		@Override
+		public final Iterator<Variable<?>> iterator() {
+			final Map<String, Variable<?>> visibleVariables = new LinkedHashMap<String, Variable<?>>();
+
+			for (Snapshot snapshot = this; snapshot != null; snapshot = snapshot.getParent()) {
+				snapshot.bindings.forEach(visibleVariables::putIfAbsent);
+			}
+
+			return unmodifiableCollection(visibleVariables.values()).iterator();
+		}
+
+		/**
+		 * {@value}.
+		 */
+		private static final long serialVersionUID = -3036335418960826010L;
+
+	}
+
+	/**
+	 * Persistent hash array mapped trie from variable names to variables.
+	 * <br>Updates copy only the path to the changed entry, so that previous versions remain valid and can be shared.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class Bindings implements Serializable {
+
+		private final Node root;
+
+		private Bindings(final Node root) {
+			this.root = root;
+		}
+
+		/**
+		 * @param variableName
+		 * <br>Not null
+		 * @return
+		 * <br>Maybe null
+		 */
+		public final Variable<?> get(final String variableName) {
+			return this.root == null ? null : (Variable<?>) this.root.get(0, variableName.hashCode(), variableName);
+		}
+
+		/**
+		 * @param variableName
+		 * <br>Not null
+		 * @param variable
+		 * <br>Not null
+		 * @return
+		 * <br>Not null
+		 * <br>Maybe new
+		 */
+		public final Bindings plus(final String variableName, final Variable<?> variable) {
+			final Node newRoot = (this.root == null ? BitmapNode.EMPTY : this.root).put(0, variableName.hashCode(), variableName, variable);
+
+			return newRoot == this.root ? this : new Bindings(newRoot);
+		}
+
+		/**
+		 * @param variableName
+		 * <br>Not null
+		 * @return
+		 * <br>Not null
+		 * <br>Maybe new
+		 */
+		public final Bindings minus(final String variableName) {
+			if (this.root == null) {
+				return this;
+			}
+
+			final Node newRoot = this.root.remove(0, variableName.hashCode(), variableName);
+
+			return newRoot == this.root ? this : newRoot == null ? EMPTY : new Bindings(newRoot);
+		}
+
+		/**
+		 * @param action
+		 * <br>Not null
+		 */
+		public final void forEach(final BiConsumer<String, Variable<?>> action) {
+			if (this.root != null) {
+				this.root.forEach(action);
+			}
+		}
+
+		/**
+		 * {@value}.
+		 */
+		private static final long serialVersionUID = -8183862716574396113L;
+
+		public static final Bindings EMPTY = new Bindings(null);
+
+		/**
+		 * {@value}.
+		 */
+		static final int BITS = 5;
+
+		/**
+		 * @author codistmonk (creation 2026-10-19)
+		 */
+		static abstract interface Node extends Serializable {
+
+			public abstract Object get(int shift, int hash, String key);
+
+			/**
+			 * @return <code>this</code> if nothing changed
+			 */
+			public abstract Node put(int shift, int hash, String key, Object value);
+
+			/**
+			 * @return <code>this</code> if nothing changed, or null if the node becomes empty
+			 */
+			public abstract Node remove(int shift, int hash, String key);
+
+			@SuppressWarnings("unchecked")
+			public default void forEach(final BiConsumer<String, Variable<?>> action) {
+				final Object[] entries = this.getEntries();
+
+				for (int i = 0; i < entries.length; i += 2) {
+					if (entries[i] == null) {
+						((Node) entries[i + 1]).forEach(action);
+					} else {
+						action.accept((String) entries[i], (Variable<?>) entries[i + 1]);
+					}
+				}
+			}
+
+			/**
+			 * @return Alternating keys and values; a null key means that the value is a child node
+			 */
+			public abstract Object[] getEntries();
+
+		}
+
+		/**
+		 * @author codistmonk (creation 2026-10-19)
+		 */
+		static final class BitmapNode implements Node {
+
+			private final int bitmap;
+
+			private final Object[] entries;
+
+			BitmapNode(final int bitmap, final Object[] entries) {
+				this.bitmap = bitmap;
+				this.entries = entries;
+			}
+
+			@Override
+			public final Object[] getEntries() {
+				return this.entries;
+			}
+
+			@Override
+			public final Object get(final int shift, final int hash, final String key) {
+				final int bit = bit(shift, hash);
+
+				if ((this.bitmap & bit) == 0) {
+					return null;
+				}
+
+				final int index = this.index(bit);
+				final Object entryKey = this.entries[index];
+				final Object entryValue = this.entries[index + 1];
+
+				if (entryKey == null) {
+					return ((Node) entryValue).get(shift + BITS, hash, key);
+				}
+
+				return key.equals(entryKey) ? entryValue : null;
+			}
+
+			@Override
+			public final Node put(final int shift, final int hash, final String key, final Object value) {
+				final int bit = bit(shift, hash);
+				final int index = this.index(bit);
+
+				if ((this.bitmap & bit) == 0) {
+					final Object[] newEntries = new Object[this.entries.length + 2];
+
+					System.arraycopy(this.entries, 0, newEntries, 0, index);
+					newEntries[index] = key;
+					newEntries[index + 1] = value;
+					System.arraycopy(this.entries, index, newEntries, index + 2, this.entries.length - index);
+
+					return new BitmapNode(this.bitmap | bit, newEntries);
+				}
+
+				final Object entryKey = this.entries[index];
+				final Object entryValue = this.entries[index + 1];
+
+				if (entryKey == null) {
+					final Node child = (Node) entryValue;
+					final Node newChild = child.put(shift + BITS, hash, key, value);
+
+					return newChild == child ? this : this.with(index, null, newChild);
+				}
+
+				if (key.equals(entryKey)) {
+					return entryValue == value ? this : this.with(index, entryKey, value);
+				}
+
+				return this.with(index, null, newNode(shift + BITS, (String) entryKey, entryValue, hash, key, value));
+			}
+
+			@Override
+			public final Node remove(final int shift, final int hash, final String key) {
+				final int bit = bit(shift, hash);
+
+				if ((this.bitmap & bit) == 0) {
+					return this;
+				}
+
+				final int index = this.index(bit);
+				final Object entryKey = this.entries[index];
+				final Object entryValue = this.entries[index + 1];
+
+				if (entryKey == null) {
+					final Node child = (Node) entryValue;
+					final Node newChild = child.remove(shift + BITS, hash, key);
+
+					if (newChild == child) {
+						return this;
+					}
+
+					if (newChild != null) {
+						return this.with(index, null, newChild);
+					}
+				} else if (!key.equals(entryKey)) {
+					return this;
+				}
+
+				if (this.bitmap == bit) {
+					return null;
+				}
+
+				final Object[] newEntries = new Object[this.entries.length - 2];
+
+				System.arraycopy(this.entries, 0, newEntries, 0, index);
+				System.arraycopy(this.entries, index + 2, newEntries, index, newEntries.length - index);
+
+				return new BitmapNode(this.bitmap & ~bit, newEntries);
+			}
+
+			private final int index(final int bit) {
+				return 2 * Integer.bitCount(this.bitmap & (bit - 1));
+			}
+
+			private final BitmapNode with(final int index, final Object key, final Object value) {
+				final Object[] newEntries = this.entries.clone();
+
+				newEntries[index] = key;
+				newEntries[index + 1] = value;
+
+				return new BitmapNode(this.bitmap, newEntries);
+			}
+
+			/**
+			 * {@value}.
+			 */
+			private static final long serialVersionUID = 4019707410342087932L;
+
+			static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+			static final int bit(final int shift, final int hash) {
+				return 1 << ((hash >>> shift) & ((1 << BITS) - 1));
+			}
+
+			/**
+			 * Two keys with different hashes always differ in some bits at or above <code>shift</code>,
+			 * because they were stored at the same place until then; so <code>shift</code> stays below 32.
+			 */
+			static final Node newNode(final int shift, final String key1, final Object value1,
+					final int hash2, final String key2, final Object value2) {
+				final int hash1 = key1.hashCode();
+
+				if (hash1 == hash2) {
+					return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+				}
+
+				return EMPTY.put(shift, hash1, key1, value1).put(shift, hash2, key2, value2);
+			}
+
+		}
+
+		/**
+		 * Keys with the same hash code.
+		 *
+		 * @author codistmonk (creation 2026-10-19)
+		 */
+		static final class CollisionNode implements Node {
+
+			private final int hash;
+
+			private final Object[] entries;
+
+			CollisionNode(final int hash, final Object[] entries) {
+				this.hash = hash;
+				this.entries = entries;
+			}
+
+			@Override
+			public final Object[] getEntries() {
+				return this.entries;
+			}
+
+			@Override
+			public final Object get(final int shift, final int hash, final String key) {
+				final int index = this.indexOf(key);
+
+				return index < 0 ? null : this.entries[index + 1];
+			}
+
+			@Override
+			public final Node put(final int shift, final int hash, final String key, final Object value) {
+				if (hash != this.hash) {
+					return new BitmapNode(BitmapNode.bit(shift, this.hash), new Object[] { null, this }).put(shift, hash, key, value);
+				}
+
+				final int index = this.indexOf(key);
+
+				if (0 <= index) {
+					if (this.entries[index + 1] == value) {
+						return this;
+					}
+
+					final Object[] newEntries = this.entries.clone();
+
+					newEntries[index + 1] = value;
+
+					return new CollisionNode(this.hash, newEntries);
+				}
+
+				final Object[] newEntries = Arrays.copyOf(this.entries, this.entries.length + 2);
+
+				newEntries[this.entries.length] = key;
+				newEntries[this.entries.length + 1] = value;
+
+				return new CollisionNode(this.hash, newEntries);
+			}
+
+			@Override
+			public final Node remove(final int shift, final int hash, final String key) {
+				final int index = this.indexOf(key);
+
+				if (index < 0) {
+					return this;
+				}
+
+				if (this.entries.length == 2) {
+					return null;
+				}
+
+				final Object[] newEntries = new Object[this.entries.length - 2];
+
+				System.arraycopy(this.entries, 0, newEntries, 0, index);
+				System.arraycopy(this.entries, index + 2, newEntries, index, newEntries.length - index);
+
+				return new CollisionNode(this.hash, newEntries);
+			}
+
+			private final int indexOf(final String key) {
+				for (int i = 0; i < this.entries.length; i += 2) {
+					if (key.equals(this.entries[i])) {
+						return i;
+					}
+				}
+
+				return -1;
+			}
+
+			/**
+			 * {@value}.
+			 */
+			private static final long serialVersionUID = -6380316766212153917L;
+
+		}
+
+	}
 
 	/**
 	 * 
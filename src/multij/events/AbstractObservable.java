@@ -25,7 +25,11 @@
 package multij.events;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import multij.tools.Tools;
 
 /**
  * This abstract class provides a default implementation of {@link Observable} to be used as a base class
@@ -39,31 +43,66 @@ import java.util.Collection;
  */
 public abstract class AbstractObservable<L> implements Observable<L> {
 	
-	private final Collection<L> listeners;
+	/**
+	 * Immutable; replaced on every change (copy-on-write), so that events can be fired without locking or copying.
+	 */
+	private volatile Object[] listeners;
 
     public AbstractObservable() {
-        this.listeners = new ArrayList<L>();
+        this.listeners = NO_LISTENERS;
     }
 
     @Override
     public final synchronized void addListener(final L listener) {
-        this.listeners.add(listener);
+        final Object[] oldListeners = this.listeners;
+        final Object[] newListeners = Arrays.copyOf(oldListeners, oldListeners.length + 1);
+        
+        newListeners[oldListeners.length] = listener;
+        
+        this.listeners = newListeners;
     }
 
     @Override
     public final synchronized void removeListener(final L listener) {
-        this.listeners.remove(listener);
+        final Object[] oldListeners = this.listeners;
+        final int n = oldListeners.length;
+        
+        for (int i = 0; i < n; ++i) {
+            if (Tools.equals(listener, oldListeners[i])) {
+                final Object[] newListeners = n == 1 ? NO_LISTENERS : new Object[n - 1];
+                
+                System.arraycopy(oldListeners, 0, newListeners, 0, i);
+                System.arraycopy(oldListeners, i + 1, newListeners, i, n - 1 - i);
+                
+                this.listeners = newListeners;
+                
+                return;
+            }
+        }
     }
 
     @Override
-    public final synchronized Iterable<L> getListeners() {
-        return new ArrayList<L>(this.listeners);
+    @SuppressWarnings("unchecked")
+    public final Iterable<L> getListeners() {
+        return new ArrayList<L>((List<L>) Arrays.asList(this.listeners));
+    }
+    
+    /**
+     * @return
+     * <br>Not null
+     * <br>Shared
+     * <br>Must not be modified
+     */
+    protected final Object[] getListenerArray() {
+        return this.listeners;
     }
 	
     /**
 	 * {@value}.
 	 */
-	private static final long serialVersionUID = -873653160238438291L;
+	private static final long serialVersionUID = 1919633045346632407L;
+	
+	private static final Object[] NO_LISTENERS = {};
 	
     /**
      * This abstract event class provides simpler constructors than {@link Observable.AbstractEvent}, but
@@ -93,6 +132,16 @@ public abstract class AbstractObservable<L> implements Observable<L> {
         protected AbstractEvent() {
             super((S) AbstractObservable.this);
         }
+        
+        /**
+         * @param clock
+         * <br>Maybe null
+         * <br>If null, timestamps are disabled
+         */
+        @SuppressWarnings("unchecked")
+        protected AbstractEvent(final LongSupplier clock) {
+            super((S) AbstractObservable.this, clock);
+        }
     	
         /**
 		 * {@value}.
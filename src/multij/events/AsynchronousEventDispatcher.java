@@ -0,0 +1,448 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import multij.events.EventManager.Event;
+import multij.events.EventManager.StrongKey;
+
+/**
+ * Delivers events on an executor instead of the firing thread.
+ * <br>Events of the same source are delivered one at a time in FIFO order,
+ * while events of different sources can be delivered in parallel.
+ * <br>Each source has a bounded queue; when it is full, the {@link Backpressure} policy decides what happens to new events.
+ * <br>Install with {@link EventManager#setAsynchronousDispatcher(AsynchronousEventDispatcher)}
+ * to make {@link EventManager#dispatch(Event)} asynchronous;
+ * virtual threads can be used by passing a virtual-thread-per-task executor.
+ * 
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class AsynchronousEventDispatcher {
+	
+	private final EventManager eventManager;
+	
+	private final Executor executor;
+	
+	private final int queueCapacity;
+	
+	private final Backpressure backpressure;
+	
+	private final ConcurrentMap<StrongKey, SourceQueue> queues;
+	
+	private final AtomicLong droppedEventCount;
+	
+	private final AtomicLong pendingEventCount;
+	
+	/**
+	 * @param eventManager
+	 * <br>Not null
+	 * @param executor
+	 * <br>Not null
+	 * @param queueCapacity
+	 * <br>Range: <code>[1 .. Integer.MAX_VALUE]</code>
+	 * @param backpressure
+	 * <br>Not null
+	 */
+	public AsynchronousEventDispatcher(final EventManager eventManager, final Executor executor,
+			final int queueCapacity, final Backpressure backpressure) {
+		if (queueCapacity < 1) {
+			throw new IllegalArgumentException("Invalid queue capacity: " + queueCapacity);
+		}
+		
+		this.eventManager = eventManager;
+		this.executor = executor;
+		this.queueCapacity = queueCapacity;
+		this.backpressure = backpressure;
+		this.queues = new ConcurrentHashMap<StrongKey, SourceQueue>();
+		this.droppedEventCount = new AtomicLong();
+		this.pendingEventCount = new AtomicLong();
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 */
+	public final EventManager getEventManager() {
+		return this.eventManager;
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 */
+	public final Executor getExecutor() {
+		return this.executor;
+	}
+	
+	/**
+	 * @return
+	 * <br>Range: <code>[1 .. Integer.MAX_VALUE]</code>
+	 */
+	public final int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 */
+	public final Backpressure getBackpressure() {
+		return this.backpressure;
+	}
+	
+	/**
+	 * @return The number of events discarded by {@link Backpressure#DROP}
+	 * or because the executor rejected their delivery
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 */
+	public final long getDroppedEventCount() {
+		return this.droppedEventCount.get();
+	}
+	
+	/**
+	 * @return The number of events queued or being delivered
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 */
+	public final long getPendingEventCount() {
+		return this.pendingEventCount.get();
+	}
+	
+	/**
+	 * Queues <code>event</code> for delivery after the previously queued events of the same source.
+	 * 
+	 * @param event
+	 * <br>Not null
+	 */
+	public final void dispatch(final Event<?> event) {
+		final StrongKey key = new StrongKey(event.getSource());
+		
+		while (true) {
+			final SourceQueue queue = this.queues.computeIfAbsent(key, k -> new SourceQueue(k));
+			final boolean mustSchedule;
+			Event<?> queuedEvent = null;
+			
+			synchronized (queue) {
+				if (queue.isRetired()) {
+					continue;
+				}
+				
+				while (this.getQueueCapacity() <= queue.getEvents().size() && queue.getDeliveringThread() != Thread.currentThread()) {
+					if (this.getBackpressure() == Backpressure.DROP) {
+						this.droppedEventCount.incrementAndGet();
+						
+						return;
+					}
+					
+					if (this.getBackpressure() == Backpressure.CALLER_RUNS && queue.getDeliveringThread() == null) {
+						queuedEvent = queue.getEvents().poll();
+						queue.setDeliveringThread(Thread.currentThread());
+						
+						break;
+					}
+					
+					try {
+						queue.wait();
+					} catch (final InterruptedException exception) {
+						Thread.currentThread().interrupt();
+						
+						throw new IllegalStateException(exception);
+					}
+					
+					if (queue.isRetired()) {
+						break;
+					}
+				}
+				
+				if (queuedEvent == null) {
+					if (queue.isRetired()) {
+						continue;
+					}
+					
+					this.eventQueued();
+					queue.getEvents().add(event);
+					mustSchedule = !queue.isScheduled();
+					queue.setScheduled(true);
+				} else {
+					mustSchedule = false;
+				}
+			}
+			
+			if (queuedEvent != null) {
+				// CALLER_RUNS: the oldest event of the source is delivered here, then the new event is retried
+				this.deliver(queue, queuedEvent);
+				
+				continue;
+			}
+			
+			if (mustSchedule) {
+				this.schedule(queue);
+			}
+			
+			return;
+		}
+	}
+	
+	/**
+	 * Waits until all the events queued so far (and the events they trigger) have been delivered.
+	 * 
+	 * @throws InterruptedException If the current thread is interrupted while waiting
+	 */
+	public final void flush() throws InterruptedException {
+		synchronized (this) {
+			while (this.getPendingEventCount() != 0L) {
+				this.wait();
+			}
+		}
+	}
+	
+	/**
+	 * @param timeout
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @param unit
+	 * <br>Not null
+	 * @return <code>true</code> if all the queued events have been delivered before the timeout
+	 * @throws InterruptedException If the current thread is interrupted while waiting
+	 */
+	public final boolean await(final long timeout, final TimeUnit unit) throws InterruptedException {
+		final long deadline = System.nanoTime() + unit.toNanos(timeout);
+		
+		synchronized (this) {
+			while (this.getPendingEventCount() != 0L) {
+				final long remaining = deadline - System.nanoTime();
+				
+				if (remaining <= 0L) {
+					return false;
+				}
+				
+				TimeUnit.NANOSECONDS.timedWait(this, remaining);
+			}
+		}
+		
+		return true;
+	}
+	
+	private final void eventQueued() {
+		this.pendingEventCount.incrementAndGet();
+	}
+	
+	private final void eventsDelivered(final long count) {
+		if (this.pendingEventCount.addAndGet(-count) == 0L) {
+			synchronized (this) {
+				this.notifyAll();
+			}
+		}
+	}
+	
+	/**
+	 * Drops the events of <code>queue</code> if the executor rejects its delivery,
+	 * instead of running listeners on the firing thread.
+	 */
+	private final void schedule(final SourceQueue queue) {
+		try {
+			this.getExecutor().execute(() -> this.deliver(queue));
+		} catch (final RejectedExecutionException exception) {
+			final int count;
+			
+			synchronized (queue) {
+				count = queue.getEvents().size();
+				queue.getEvents().clear();
+				queue.setScheduled(false);
+				queue.setRetired(true);
+				this.queues.remove(queue.getKey(), queue);
+				queue.notifyAll();
+			}
+			
+			this.droppedEventCount.addAndGet(count);
+			this.eventsDelivered(count);
+		}
+	}
+	
+	/**
+	 * Delivers a bounded number of events of <code>queue</code>, then reschedules it if necessary
+	 * so that busy sources don't monopolize the executor threads.
+	 */
+	private final void deliver(final SourceQueue queue) {
+		for (int i = 0; i < MAXIMUM_BATCH_SIZE; ++i) {
+			final Event<?> event;
+			
+			synchronized (queue) {
+				awaitDeliveringThread(queue);
+				
+				event = queue.getEvents().poll();
+				
+				if (event == null) {
+					queue.setScheduled(false);
+					queue.setRetired(true);
+					this.queues.remove(queue.getKey(), queue);
+					queue.notifyAll();
+					
+					return;
+				}
+				
+				queue.setDeliveringThread(Thread.currentThread());
+				queue.notifyAll();
+			}
+			
+			this.deliver(queue, event);
+		}
+		
+		this.schedule(queue);
+	}
+	
+	/**
+	 * Delivers <code>event</code>, which has been polled from <code>queue</code>
+	 * by the current thread after it became the delivering thread of <code>queue</code>.
+	 */
+	private final void deliver(final SourceQueue queue, final Event<?> event) {
+		try {
+			this.getEventManager().deliver(event);
+		} finally {
+			synchronized (queue) {
+				queue.setDeliveringThread(null);
+				queue.notifyAll();
+			}
+			
+			this.eventsDelivered(1L);
+		}
+	}
+	
+	/**
+	 * {@value}.
+	 */
+	private static final int MAXIMUM_BATCH_SIZE = 64;
+	
+	/**
+	 * Waits until no thread (typically a caller under {@link Backpressure#CALLER_RUNS}) is delivering <code>queue</code>.
+	 * <br>The caller must hold the monitor of <code>queue</code>.
+	 */
+	private static final void awaitDeliveringThread(final SourceQueue queue) {
+		boolean interrupted = false;
+		
+		while (queue.getDeliveringThread() != null) {
+			try {
+				queue.wait();
+			} catch (final InterruptedException exception) {
+				interrupted = true;
+			}
+		}
+		
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * What {@link AsynchronousEventDispatcher#dispatch(Event)} does when the queue of the source is full.
+	 * <br>Events dispatched from the thread delivering the same source are always queued,
+	 * so that listeners can fire events without deadlocking.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static enum Backpressure {
+		
+		/**
+		 * Waits until the queue has room.
+		 */
+		BLOCK,
+		
+		/**
+		 * Discards the new event.
+		 */
+		DROP,
+		
+		/**
+		 * Makes the calling thread deliver the oldest queued events of the source until the queue has room,
+		 * or wait like {@link #BLOCK} while another thread is delivering the source.
+		 */
+		CALLER_RUNS;
+		
+	}
+	
+	/**
+	 * Pending events of one source, guarded by the queue's monitor.
+	 * <br>A retired queue has been removed from the dispatcher and must not receive events anymore.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class SourceQueue {
+		
+		private final StrongKey key;
+		
+		private final Queue<Event<?>> events;
+		
+		private boolean scheduled;
+		
+		private boolean retired;
+		
+		private Thread deliveringThread;
+		
+		SourceQueue(final StrongKey key) {
+			this.key = key;
+			this.events = new ArrayDeque<Event<?>>();
+		}
+		
+		final StrongKey getKey() {
+			return this.key;
+		}
+		
+		final Queue<Event<?>> getEvents() {
+			return this.events;
+		}
+		
+		final boolean isScheduled() {
+			return this.scheduled;
+		}
+		
+		final void setScheduled(final boolean scheduled) {
+			this.scheduled = scheduled;
+		}
+		
+		final boolean isRetired() {
+			return this.retired;
+		}
+		
+		final void setRetired(final boolean retired) {
+			this.retired = retired;
+		}
+		
+		final Thread getDeliveringThread() {
+			return this.deliveringThread;
+		}
+		
+		final void setDeliveringThread(final Thread deliveringThread) {
+			this.deliveringThread = deliveringThread;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,370 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static multij.tools.Tools.unchecked;
+
+import java.beans.ConstructorProperties;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.ObjectName;
+
+/**
+ * Opt-in instrumentation of listener invocations by {@link EventManager} and {@link Observable.AbstractEvent}.
+ * <br>Statistics are aggregated per event class and listener class.
+ * <br>When no instance is installed with {@link #setInstance(DispatchMetrics)},
+ * dispatching only pays for one volatile read per event.
+ * 
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class DispatchMetrics implements DispatchMetricsMXBean {
+	
+	private final long slowThresholdNanos;
+	
+	private final SlowListenerReporter slowListenerReporter;
+	
+	private final ConcurrentMap<Key, Statistics> statistics;
+	
+	private final LongAdder slowInvocationCount;
+	
+	/**
+	 * Reports slow invocations to the log at {@link Level#WARNING}.
+	 * 
+	 * @param slowThreshold
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @param unit
+	 * <br>Not null
+	 */
+	public DispatchMetrics(final long slowThreshold, final TimeUnit unit) {
+		this(slowThreshold, unit, DispatchMetrics::logSlowInvocation);
+	}
+	
+	/**
+	 * @param slowThreshold
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @param unit
+	 * <br>Not null
+	 * @param slowListenerReporter
+	 * <br>Not null
+	 * <br>Called on the dispatching thread for each invocation that lasts longer than <code>slowThreshold</code>
+	 */
+	public DispatchMetrics(final long slowThreshold, final TimeUnit unit, final SlowListenerReporter slowListenerReporter) {
+		this.slowThresholdNanos = unit.toNanos(slowThreshold);
+		this.slowListenerReporter = slowListenerReporter;
+		this.statistics = new ConcurrentHashMap<Key, Statistics>();
+		this.slowInvocationCount = new LongAdder();
+	}
+	
+	/**
+	 * @param eventType
+	 * <br>Not null
+	 * @param listener
+	 * <br>Not null
+	 * @param nanos
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @param exception
+	 * <br>Maybe null
+	 */
+	public final void record(final Class<?> eventType, final Object listener, final long nanos, final Throwable exception) {
+		final Key key = new Key(eventType, listener.getClass());
+		Statistics statistics = this.statistics.get(key);
+		
+		if (statistics == null) {
+			statistics = this.statistics.computeIfAbsent(key, k -> new Statistics());
+		}
+		
+		statistics.record(nanos, exception != null);
+		
+		if (this.slowThresholdNanos < nanos) {
+			this.slowInvocationCount.increment();
+			
+			try {
+				this.slowListenerReporter.report(eventType, listener, nanos);
+			} catch (final Exception reporterException) {
+				Logger.getLogger(this.getClass().getName()).log(Level.WARNING, reporterException.getMessage(), reporterException);
+			}
+		}
+	}
+	
+	@Override
+	public final long getSlowThresholdNanos() {
+		return this.slowThresholdNanos;
+	}
+	
+	@Override
+	public final long getSlowInvocationCount() {
+		return this.slowInvocationCount.sum();
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
+	@Override
+	public final Entry[] getEntries() {
+		final List<Entry> result = new ArrayList<Entry>(this.statistics.size());
+		
+		for (final Map.Entry<Key, Statistics> entry : this.statistics.entrySet()) {
+			final Statistics statistics = entry.getValue();
+			
+			result.add(new Entry(entry.getKey().getEventType().getName(), entry.getKey().getListenerType().getName(),
+					statistics.getInvocationCount(), statistics.getTotalNanos(), statistics.getMaximumNanos(),
+					statistics.getExceptionCount()));
+		}
+		
+		return result.toArray(new Entry[result.size()]);
+	}
+	
+	@Override
+	public final void reset() {
+		this.statistics.clear();
+		this.slowInvocationCount.reset();
+	}
+	
+	/**
+	 * Registers this object in the platform MBean server as <code>multij.events:type=DispatchMetrics,name=<i>name</i></code>.
+	 * 
+	 * @param name
+	 * <br>Not null
+	 * @return The registered name
+	 * <br>Not null
+	 */
+	public final ObjectName registerMBean(final String name) {
+		try {
+			final ObjectName result = new ObjectName("multij.events:type=DispatchMetrics,name=" + ObjectName.quote(name));
+			
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, result);
+			
+			return result;
+		} catch (final Exception exception) {
+			throw unchecked(exception);
+		}
+	}
+	
+	/**
+	 * @param name
+	 * <br>Not null
+	 * <br>Must have been returned by {@link #registerMBean(String)}
+	 */
+	public static final void unregisterMBean(final ObjectName name) {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+		} catch (final Exception exception) {
+			throw unchecked(exception);
+		}
+	}
+	
+	private static volatile DispatchMetrics instance;
+	
+	/**
+	 * @return
+	 * <br>Maybe null
+	 */
+	public static final DispatchMetrics getInstance() {
+		return instance;
+	}
+	
+	/**
+	 * @param metrics
+	 * <br>Maybe null
+	 * <br>If null, instrumentation is disabled
+	 */
+	public static final void setInstance(final DispatchMetrics metrics) {
+		instance = metrics;
+	}
+	
+	private static final void logSlowInvocation(final Class<?> eventType, final Object listener, final long nanos) {
+		Logger.getLogger(DispatchMetrics.class.getName()).log(Level.WARNING, "Slow listener: {0}@{1} took {2} ms for {3}",
+				new Object[] { listener.getClass().getName(), System.identityHashCode(listener), nanos / 1_000_000.0, eventType.getName() });
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface SlowListenerReporter {
+		
+		/**
+		 * @param eventType
+		 * <br>Not null
+		 * @param listener
+		 * <br>Not null
+		 * @param nanos
+		 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+		 */
+		public abstract void report(Class<?> eventType, Object listener, long nanos);
+		
+	}
+	
+	/**
+	 * Immutable statistics of one (event class, listener class) pair.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static final class Entry {
+		
+		private final String eventType;
+		
+		private final String listenerType;
+		
+		private final long invocationCount;
+		
+		private final long totalNanos;
+		
+		private final long maximumNanos;
+		
+		private final long exceptionCount;
+		
+		@ConstructorProperties({ "eventType", "listenerType", "invocationCount", "totalNanos", "maximumNanos", "exceptionCount" })
+		public Entry(final String eventType, final String listenerType, final long invocationCount,
+				final long totalNanos, final long maximumNanos, final long exceptionCount) {
+			this.eventType = eventType;
+			this.listenerType = listenerType;
+			this.invocationCount = invocationCount;
+			this.totalNanos = totalNanos;
+			this.maximumNanos = maximumNanos;
+			this.exceptionCount = exceptionCount;
+		}
+		
+		public final String getEventType() {
+			return this.eventType;
+		}
+		
+		public final String getListenerType() {
+			return this.listenerType;
+		}
+		
+		public final long getInvocationCount() {
+			return this.invocationCount;
+		}
+		
+		public final long getTotalNanos() {
+			return this.totalNanos;
+		}
+		
+		public final long getMaximumNanos() {
+			return this.maximumNanos;
+		}
+		
+		public final long getExceptionCount() {
+			return this.exceptionCount;
+		}
+		
+		@Override
+		public final String toString() {
+			return this.getEventType() + " -> " + this.getListenerType() + ": " + this.getInvocationCount() + " invocations, "
+					+ this.getTotalNanos() + " ns total, " + this.getMaximumNanos() + " ns max, " + this.getExceptionCount() + " exceptions";
+		}
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class Key {
+		
+		private final Class<?> eventType;
+		
+		private final Class<?> listenerType;
+		
+		Key(final Class<?> eventType, final Class<?> listenerType) {
+			this.eventType = eventType;
+			this.listenerType = listenerType;
+		}
+		
+		final Class<?> getEventType() {
+			return this.eventType;
+		}
+		
+		final Class<?> getListenerType() {
+			return this.listenerType;
+		}
+		
+		@Override
+		public final int hashCode() {
+			return this.eventType.hashCode() * 31 + this.listenerType.hashCode();
+		}
+		
+		@Override
+		public final boolean equals(final Object object) {
+			final Key that = object instanceof Key ? (Key) object : null;
+			
+			return that != null && this.eventType == that.eventType && this.listenerType == that.listenerType;
+		}
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class Statistics {
+		
+		private final LongAdder invocationCount = new LongAdder();
+		
+		private final LongAdder totalNanos = new LongAdder();
+		
+		private final LongAccumulator maximumNanos = new LongAccumulator(Math::max, 0L);
+		
+		private final LongAdder exceptionCount = new LongAdder();
+		
+		final void record(final long nanos, final boolean exception) {
+			this.invocationCount.increment();
+			this.totalNanos.add(nanos);
+			this.maximumNanos.accumulate(nanos);
+			
+			if (exception) {
+				this.exceptionCount.increment();
+			}
+		}
+		
+		final long getInvocationCount() {
+			return this.invocationCount.sum();
+		}
+		
+		final long getTotalNanos() {
+			return this.totalNanos.sum();
+		}
+		
+		final long getMaximumNanos() {
+			return this.maximumNanos.get();
+		}
+		
+		final long getExceptionCount() {
+			return this.exceptionCount.sum();
+		}
+		
+	}
+	
+}
@@ -0,0 +1,300 @@
+/* MACHINE-GENERATED FILE */
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Observable <code>double</code> variable with atomic updates.
+ * <br>Listeners receive the old and new values as primitives; no event is allocated.
+ * <br>Listeners are notified on the updating thread after each update that changes the value;
+ * under contention, the notifications of concurrent updates may arrive in any order,
+ * but each one reports the exact old and new values of its update.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class DoubleVariable {
+	
+	private final String name;
+	
+	/**
+	 * Raw bits of the value.
+	 */
+	private final AtomicLong value;
+	
+	private volatile Listener[] listeners;
+	
+	private PrimitiveVariableAdapter<Double> adapter;
+	
+	/**
+	 * @param name
+	 * <br>Not null
+	 * @param value
+	 * <br>Any value
+	 */
+	public DoubleVariable(final String name, final double value) {
+		this.name = name;
+		this.value = new AtomicLong(Double.doubleToRawLongBits(value));
+		this.listeners = NO_LISTENERS;
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 */
+	public final String getName() {
+		return this.name;
+	}
+	
+	public final double get() {
+		return Double.longBitsToDouble(this.value.get());
+	}
+	
+	public final void set(final double newValue) {
+		final long newBits = Double.doubleToRawLongBits(newValue);
+		final long oldBits = this.value.getAndSet(newBits);
+		
+		if (oldBits != newBits) {
+			this.fire(Double.longBitsToDouble(oldBits), newValue);
+		}
+	}
+	
+	/**
+	 * Values are compared by their raw bits,
+	 * which only differs from <code>==</code> for floating-point values such as <code>-0.0</code> and <code>NaN</code>.
+	 */
+	public final boolean compareAndSet(final double expectedValue, final double newValue) {
+		final long expectedBits = Double.doubleToRawLongBits(expectedValue);
+		final long newBits = Double.doubleToRawLongBits(newValue);
+		
+		if (!this.value.compareAndSet(expectedBits, newBits)) {
+			return false;
+		}
+		
+		if (expectedBits != newBits) {
+			this.fire(expectedValue, newValue);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * @return The previous value
+	 */
+	public final double getAndAdd(final double delta) {
+		return this.getAndAccumulate(delta, Double::sum);
+	}
+	
+	/**
+	 * @return The new value
+	 */
+	public final double addAndGet(final double delta) {
+		return this.accumulateAndGet(delta, Double::sum);
+	}
+	
+	/**
+	 * @return The new value
+	 */
+	public final double incrementAndGet() {
+		return this.addAndGet(1.0);
+	}
+	
+	/**
+	 * @param x
+	 * <br>Any value
+	 * @param accumulator
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The previous value
+	 */
+	public final double getAndAccumulate(final double x, final DoubleBinaryOperator accumulator) {
+		long oldBits;
+		long newBits;
+		double result;
+		
+		do {
+			oldBits = this.value.get();
+			result = Double.longBitsToDouble(oldBits);
+			newBits = Double.doubleToRawLongBits(accumulator.applyAsDouble(result, x));
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire(result, Double.longBitsToDouble(newBits));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param x
+	 * <br>Any value
+	 * @param accumulator
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The new value
+	 */
+	public final double accumulateAndGet(final double x, final DoubleBinaryOperator accumulator) {
+		long oldBits;
+		long newBits;
+		double result;
+		
+		do {
+			oldBits = this.value.get();
+			result = accumulator.applyAsDouble(Double.longBitsToDouble(oldBits), x);
+			newBits = Double.doubleToRawLongBits(result);
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire(Double.longBitsToDouble(oldBits), result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param function
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The new value
+	 */
+	public final double updateAndGet(final DoubleUnaryOperator function) {
+		long oldBits;
+		long newBits;
+		double result;
+		
+		do {
+			oldBits = this.value.get();
+			result = function.applyAsDouble(Double.longBitsToDouble(oldBits));
+			newBits = Double.doubleToRawLongBits(result);
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire(Double.longBitsToDouble(oldBits), result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param listener
+	 * <br>Not null
+	 */
+	public final synchronized void addListener(final Listener listener) {
+		final Listener[] oldListeners = this.listeners;
+		final Listener[] newListeners = Arrays.copyOf(oldListeners, oldListeners.length + 1);
+		
+		newListeners[oldListeners.length] = listener;
+		
+		this.listeners = newListeners;
+	}
+	
+	/**
+	 * @param listener
+	 * <br>Maybe null
+	 */
+	public final synchronized void removeListener(final Listener listener) {
+		final Listener[] oldListeners = this.listeners;
+		final int n = oldListeners.length;
+		
+		for (int i = 0; i < n; ++i) {
+			if (oldListeners[i] == listener) {
+				final Listener[] newListeners = new Listener[n - 1];
+				
+				System.arraycopy(oldListeners, 0, newListeners, 0, i);
+				System.arraycopy(oldListeners, i + 1, newListeners, i, n - 1 - i);
+				
+				this.listeners = newListeners;
+				
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * @return A {@link Variable} view of this variable, whose listeners receive boxed events
+	 * <br>Not null
+	 * <br>Shared
+	 */
+	public final synchronized Variable<Double> asVariable() {
+		if (this.adapter == null) {
+			final PrimitiveVariableAdapter<Double> adapter = new PrimitiveVariableAdapter<Double>(
+					Double.class, this.getName(), () -> Double.valueOf(this.get()), value -> this.set(value));
+			
+			this.addListener((variable, oldValue, newValue) -> {
+				// Boxes only for the listeners of the view
+				if (adapter.hasListeners()) {
+					adapter.valueChanged(Double.valueOf(oldValue), Double.valueOf(newValue));
+				}
+			});
+			
+			this.adapter = adapter;
+		}
+		
+		return this.adapter;
+	}
+	
+	@Override
+	public final String toString() {
+		return "DoubleVariable { " + this.getName() + " " + this.get() + " }";
+	}
+	
+	private final void fire(final double oldValue, final double newValue) {
+		final Listener[] listeners = this.listeners;
+		final int n = listeners.length;
+		
+		for (int i = 0; i < n; ++i) {
+			try {
+				listeners[i].valueChanged(this, oldValue, newValue);
+			} catch (final Exception exception) {
+				Logger.getLogger(this.getClass().getName()).log(Level.SEVERE, null, exception);
+			}
+		}
+	}
+	
+	private static final Listener[] NO_LISTENERS = {};
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface Listener {
+		
+		/**
+		 * @param variable
+		 * <br>Not null
+		 * @param oldValue
+		 * <br>Any value
+		 * @param newValue
+		 * <br>Any value
+		 */
+		public abstract void valueChanged(DoubleVariable variable, double oldValue, double newValue);
+		
+	}
+	
+}
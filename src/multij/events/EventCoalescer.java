@@ -0,0 +1,365 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collapses bursts of events into one delivery per tick.
+ * <br>Events are grouped by source (compared by identity) and event class;
+ * at each tick, only the latest event of each group is fired,
+ * and the batch listeners of the group receive all its events at once.
+ * <br>Ticks are either triggered explicitly with {@link #tick()} (for instance once per frame),
+ * or scheduled automatically a fixed delay after the first event of a burst.
+ * 
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class EventCoalescer {
+	
+	private final ScheduledExecutorService scheduler;
+	
+	private final long delay;
+	
+	private final TimeUnit unit;
+	
+	private final List<BatchRegistration> batchRegistrations;
+	
+	private Map<Key, Burst> bursts;
+	
+	private boolean tickScheduled;
+	
+	/**
+	 * Creates a coalescer whose ticks must be triggered explicitly.
+	 */
+	public EventCoalescer() {
+		this(null, 0L, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * @param scheduler
+	 * <br>Maybe null
+	 * <br>If null, ticks must be triggered explicitly
+	 * @param delay
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @param unit
+	 * <br>Not null
+	 */
+	public EventCoalescer(final ScheduledExecutorService scheduler, final long delay, final TimeUnit unit) {
+		this.scheduler = scheduler;
+		this.delay = delay;
+		this.unit = unit;
+		this.batchRegistrations = new CopyOnWriteArrayList<BatchRegistration>();
+		this.bursts = new LinkedHashMap<Key, Burst>();
+	}
+	
+	/**
+	 * Fires <code>event</code> at the next tick, unless a more recent event of the same source and class replaces it.
+	 * 
+	 * @param event
+	 * <br>Not null
+	 */
+	public final void fireLater(final EventManager.Event<?> event) {
+		this.submit(event.getSource(), event.getClass(), event, e -> ((EventManager.Event<?>) e).fire());
+	}
+	
+	/**
+	 * Fires <code>event</code> at the next tick, unless a more recent event of the same source and class replaces it.
+	 * 
+	 * @param event
+	 * <br>Not null
+	 */
+	public final void fireLater(final Observable.AbstractEvent<?, ?> event) {
+		this.submit(event.getSource(), event.getClass(), event, e -> ((Observable.AbstractEvent<?, ?>) e).fire());
+	}
+	
+	/**
+	 * @param listener
+	 * <br>Not null
+	 * @return A listener that forwards to <code>listener</code> the latest event of each variable at each tick
+	 * <br>Not null
+	 * <br>New
+	 */
+	@SuppressWarnings("unchecked")
+	public final <T> Variable.Listener<T> newCoalescingListener(final Variable.Listener<T> listener) {
+		return new Variable.Listener<T>() {
+			
+			@Override
+			public final void valueChanged(final Variable.ValueChangedEvent<T, ?> event) {
+				EventCoalescer.this.submit(event.getSource(), listener, event,
+						e -> listener.valueChanged((Variable.ValueChangedEvent<T, ?>) e));
+			}
+			
+		};
+	}
+	
+	/**
+	 * Registers <code>listener</code> to receive, at each tick, all the events of <code>source</code>
+	 * passed to <code>fireLater(...)</code> whose class is a subtype of <code>eventType</code>.
+	 * 
+	 * @param source
+	 * <br>Not null
+	 * @param eventType
+	 * <br>Not null
+	 * @param listener
+	 * <br>Not null
+	 */
+	public final <E> void addBatchListener(final Object source, final Class<E> eventType, final BatchListener<? super E> listener) {
+		this.batchRegistrations.add(new BatchRegistration(source, eventType, listener));
+	}
+	
+	/**
+	 * @param source
+	 * <br>Maybe null
+	 * @param listener
+	 * <br>Maybe null
+	 */
+	public final void removeBatchListener(final Object source, final BatchListener<?> listener) {
+		this.batchRegistrations.removeIf(registration -> registration.getSource() == source && registration.getListener() == listener);
+	}
+	
+	/**
+	 * @return The number of deliveries waiting for the next tick
+	 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+	 */
+	public final synchronized int getPendingCount() {
+		return this.bursts.size();
+	}
+	
+	/**
+	 * Delivers the pending bursts in the order in which they started.
+	 */
+	public final void tick() {
+		final Map<Key, Burst> bursts;
+		
+		synchronized (this) {
+			bursts = this.bursts;
+			this.bursts = new LinkedHashMap<Key, Burst>();
+			this.tickScheduled = false;
+		}
+		
+		for (final Burst burst : bursts.values()) {
+			burst.deliver();
+		}
+	}
+	
+	/**
+	 * @param source
+	 * <br>Not null
+	 * @param discriminator
+	 * <br>Not null
+	 * <br>The event class, or the target listener
+	 * @param event
+	 * <br>Not null
+	 * @param delivery
+	 * <br>Not null
+	 * <br>Called with the latest event of the burst
+	 */
+	private final void submit(final Object source, final Object discriminator, final Object event, final Consumer<Object> delivery) {
+		final boolean mustSchedule;
+		
+		synchronized (this) {
+			final Key key = new Key(source, discriminator);
+			Burst burst = this.bursts.get(key);
+			
+			if (burst == null) {
+				burst = new Burst(delivery, this.getBatchListeners(source, discriminator));
+				this.bursts.put(key, burst);
+			}
+			
+			burst.add(event);
+			
+			mustSchedule = this.scheduler != null && !this.tickScheduled;
+			this.tickScheduled |= mustSchedule;
+		}
+		
+		if (mustSchedule) {
+			this.scheduler.schedule(this::tick, this.delay, this.unit);
+		}
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 */
+	private final List<BatchListener<Object>> getBatchListeners(final Object source, final Object discriminator) {
+		if (!(discriminator instanceof Class<?>)) {
+			return Collections.emptyList();
+		}
+		
+		List<BatchListener<Object>> result = Collections.emptyList();
+		
+		for (final BatchRegistration registration : this.batchRegistrations) {
+			if (registration.getSource() == source && registration.getEventType().isAssignableFrom((Class<?>) discriminator)) {
+				if (result.isEmpty()) {
+					result = new ArrayList<BatchListener<Object>>();
+				}
+				
+				result.add(registration.getListener());
+			}
+		}
+		
+		return result;
+	}
+	
+	private static final void log(final Object listener, final Exception exception) {
+		Logger.getLogger(listener.getClass().getName() + "@" + System.identityHashCode(listener))
+			.log(Level.WARNING, exception.getMessage(), exception);
+	}
+	
+	/**
+	 * @param <E> The event type
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface BatchListener<E> {
+		
+		/**
+		 * @param events
+		 * <br>Not null
+		 * <br>Not empty
+		 * <br>In firing order
+		 */
+		public abstract void eventsFired(List<E> events);
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class Key {
+		
+		private final Object source;
+		
+		private final Object discriminator;
+		
+		Key(final Object source, final Object discriminator) {
+			this.source = source;
+			this.discriminator = discriminator;
+		}
+		
+		@Override
+		public final int hashCode() {
+			return System.identityHashCode(this.source) * 31 + System.identityHashCode(this.discriminator);
+		}
+		
+		@Override
+		public final boolean equals(final Object object) {
+			final Key that = object instanceof Key ? (Key) object : null;
+			
+			return that != null && this.source == that.source && this.discriminator == that.discriminator;
+		}
+		
+	}
+	
+	/**
+	 * Events of one group between two ticks.
+	 * <br>Only the latest event is kept, unless batch listeners need all of them.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class Burst {
+		
+		private final Consumer<Object> delivery;
+		
+		private final List<BatchListener<Object>> batchListeners;
+		
+		private final List<Object> events;
+		
+		private Object latestEvent;
+		
+		Burst(final Consumer<Object> delivery, final List<BatchListener<Object>> batchListeners) {
+			this.delivery = delivery;
+			this.batchListeners = batchListeners;
+			this.events = batchListeners.isEmpty() ? null : new ArrayList<Object>();
+		}
+		
+		final void add(final Object event) {
+			this.latestEvent = event;
+			
+			if (this.events != null) {
+				this.events.add(event);
+			}
+		}
+		
+		final void deliver() {
+			try {
+				this.delivery.accept(this.latestEvent);
+			} catch (final Exception exception) {
+				log(this.delivery, exception);
+			}
+			
+			for (final BatchListener<Object> batchListener : this.batchListeners) {
+				try {
+					batchListener.eventsFired(Collections.unmodifiableList(this.events));
+				} catch (final Exception exception) {
+					log(batchListener, exception);
+				}
+			}
+		}
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class BatchRegistration {
+		
+		private final Object source;
+		
+		private final Class<?> eventType;
+		
+		private final BatchListener<Object> listener;
+		
+		@SuppressWarnings("unchecked")
+		BatchRegistration(final Object source, final Class<?> eventType, final BatchListener<?> listener) {
+			this.source = source;
+			this.eventType = eventType;
+			this.listener = (BatchListener<Object>) listener;
+		}
+		
+		final Object getSource() {
+			return this.source;
+		}
+		
+		final Class<?> getEventType() {
+			return this.eventType;
+		}
+		
+		final BatchListener<Object> getListener() {
+			return this.listener;
+		}
+		
+	}
+	
+}
@@ -26,42 +26,72 @@ package multij.events;
 
 import static multij.tools.Tools.append;
 import static multij.tools.Tools.set;
+import static multij.tools.Tools.unchecked;
 
 import java.io.Serializable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.IdentityHashMap;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import multij.events.EventManager.Event.Listener;
-import multij.tools.Pair;
 
 /**
  * This class provides an alternative to the {@link AbstractObservable} mechanism.
  * <br>Listeners can be attached to arbitrary objects and listener methods are annotated with {@link Listener}.
- * <br>Weak listeners are stored as weak references (see {@link WeakReference}).
+ * <br>Weak listeners are stored as weak references (see {@link WeakReference}), and so are sources.
+ * <br>Sources and listeners are compared by identity.
+ * <br>Registration and removal replace immutable per-source arrays, so that dispatching is lock-free
+ * and can run concurrently on any number of threads.
+ * <br>Collected sources and weak listeners are reported through a {@link ReferenceQueue}
+ * and pruned from the registry by a daemon thread, so that its size stays bounded even if no listener is ever removed.
  * 
  * @author codistmonk (creation 2012-06-16)
  */
 public final class EventManager {
 	
-	private final Map<Object, Map<Object, List<Pair<Class<? extends Event<?>>, Method>>>> listeners;
+	/**
+	 * Each source is mapped to immutable registrations that are replaced on every change (copy-on-write),
+	 * so that dispatching never takes a lock.
+	 */
+	private final ConcurrentMap<SourceKey, SourceListeners> listeners;
+	
+	/**
+	 * Receives the weak keys of collected sources and the references of collected weak listeners.
+	 */
+	private final ReferenceQueue<Object> staleReferences;
 	
-	private final Map<Object, Object> references;
+	private final AtomicLong reclaimedSourceCount;
+	
+	private final AtomicLong reclaimedListenerCount;
+	
+	private volatile AsynchronousEventDispatcher asynchronousDispatcher;
 	
 	private EventManager() {
-		this.listeners = new WeakHashMap<Object, Map<Object, List<Pair<Class<? extends Event<?>>, Method>>>>();
-		this.references = new IdentityHashMap<Object, Object>();
+		this.listeners = new ConcurrentHashMap<SourceKey, SourceListeners>();
+		this.staleReferences = new ReferenceQueue<Object>();
+		this.reclaimedSourceCount = new AtomicLong();
+		this.reclaimedListenerCount = new AtomicLong();
+		
+		final Thread cleaner = new Thread(this::reclaimStaleReferences, EventManager.class.getSimpleName() + " cleaner");
+		
+		cleaner.setDaemon(true);
+		cleaner.start();
 	}
 	
 	/**
@@ -72,9 +102,8 @@ public final class EventManager {
 	 * @param listener
 	 * <br>Not null
 	 */
-	public final synchronized void addListener(final Object eventSource, final Class<? extends Event<?>> eventType, final Object listener) {
-		this.references.put(listener, null);
-		this.addWeakListener(eventSource, eventType, listener);
+	public final void addListener(final Object eventSource, final Class<? extends Event<?>> eventType, final Object listener) {
+		this.addListener(eventSource, eventType, listener, true);
 	}
 	
 	/**
@@ -85,139 +114,393 @@ public final class EventManager {
 	 * @param listener
 	 * <br>Not null
 	 */
-	@SuppressWarnings("unchecked")
-	public final synchronized void addWeakListener(final Object eventSource, final Class<? extends Event<?>> eventType, final Object listener) {
-		final List<Pair<Class<? extends Event<?>>, Method>> newListenerMethods = new ArrayList<Pair<Class<? extends Event<?>>, Method>>();
-		
-        for (final Method method : set(append(listener.getClass().getMethods(), listener.getClass().getDeclaredMethods()))) {
-        	if (method.isAnnotationPresent(Event.Listener.class)) {
-        		final Class<?>[] parameterTypes = method.getParameterTypes();
-        		
-        		if (parameterTypes.length == 1 && eventType.isAssignableFrom(parameterTypes[0])) {
-        			newListenerMethods.add(new Pair<Class<? extends Event<?>>, Method>((Class<? extends Event<?>>) parameterTypes[0], method));
-        		}
-        	}
-        }
-        
-    	if (newListenerMethods.isEmpty()) {
-        	return;
-        }
-        
-    	Map<Object, List<Pair<Class<? extends Event<?>>, Method>>> sourceListeners = this.listeners.get(eventSource);
-    	
-    	if (sourceListeners == null) {
-    		sourceListeners = new WeakHashMap<Object, List<Pair<Class<? extends Event<?>>, Method>>>();
-    		
-    		this.listeners.put(eventSource, sourceListeners);
-    	}
-    	
-    	final List<Pair<Class<? extends Event<?>>, Method>> existingListenerMethods = sourceListeners.get(listener);
-    	
-    	if (existingListenerMethods != null) {
-    		existingListenerMethods.addAll(newListenerMethods);
-    	} else {
-    		sourceListeners.put(listener, newListenerMethods);
-    	}
+	public final void addWeakListener(final Object eventSource, final Class<? extends Event<?>> eventType, final Object listener) {
+		this.addListener(eventSource, eventType, listener, false);
 	}
 	
 	/**
 	 * @param eventSource
 	 * <br>Not null
 	 * @param eventType
-     * <br>Not null
+	 * <br>Not null
 	 * @return
-     * <br>Not null
+	 * <br>Not null
 	 */
-	public final synchronized Object[] getListeners(final Object eventSource, final Class<? extends Event<?>> eventType) {
-    	final Map<Object, List<Pair<Class<? extends Event<?>>, Method>>> sourceListeners = this.listeners.get(eventSource);
-    	
-    	if (sourceListeners == null) {
-    		return EMPTY_LISTENERS;
-    	}
-    	
-    	final Set<Object> result = new LinkedHashSet<Object>();
-    	
-    	for (final Map.Entry<Object, List<Pair<Class<? extends Event<?>>, Method>>> entry : sourceListeners.entrySet()) {
-    		for (final Pair<Class<? extends Event<?>>, Method> listenerMethod : entry.getValue()) {
-    			if (listenerMethod.getFirst().isAssignableFrom(eventType)) {
-    				result.add(entry.getKey());
-    			}
-    		}
-    	}
-    	
-    	return result.toArray();
+	public final Object[] getListeners(final Object eventSource, final Class<? extends Event<?>> eventType) {
+		final SourceListeners sourceListeners = this.listeners.get(new StrongKey(eventSource));
+		
+		if (sourceListeners == null) {
+			return EMPTY_LISTENERS;
+		}
+		
+		final Registration[] registrations = sourceListeners.getDispatchTable(eventType).getRegistrations();
+		final List<Object> result = new ArrayList<Object>(registrations.length);
+		Registration previous = null;
+		
+		for (final Registration registration : registrations) {
+			final Object listener = registration.getListener();
+			
+			if (listener != null && registration != previous) {
+				result.add(listener);
+			}
+			
+			previous = registration;
+		}
+		
+		return result.toArray();
 	}
 	
 	/**
 	 * @param eventSource
-     * <br>Not null
+	 * <br>Not null
 	 * @param eventType
-     * <br>Not null
+	 * <br>Not null
 	 * @param listener
-     * <br>Not null
+	 * <br>Not null
 	 */
-	public final synchronized void removeListener(final Object eventSource, final Class<? extends Event<?>> eventType, final Object listener) {
-    	final Map<Object, List<Pair<Class<? extends Event<?>>, Method>>> sourceListeners = this.listeners.get(eventSource);
-    	
-    	if (sourceListeners == null) {
-    		return;
-    	}
-    	
-    	final List<Pair<Class<? extends Event<?>>, Method>> listenerMethods = sourceListeners.get(listener);
-    	
-    	if (listenerMethods == null) {
-    		return;
-    	}
-    	
-    	boolean listenerNeedsToStayStrong = false;
-    	
-    	for (final Iterator<Pair<Class<? extends Event<?>>, Method>> i = listenerMethods.iterator(); i.hasNext();) {
-    		final Pair<Class<? extends Event<?>>, Method> listenerMethod = i.next();
-    		
-    		if (eventType.isAssignableFrom(listenerMethod.getFirst())) {
-    			i.remove();
-    		} else {
-    			listenerNeedsToStayStrong = true;
-    		}
-    	}
-    	
-    	if (!listenerNeedsToStayStrong) {
-    		this.references.remove(listener);
-    	}
+	public final void removeListener(final Object eventSource, final Class<? extends Event<?>> eventType, final Object listener) {
+		this.expungeStaleReferences();
+		
+		this.listeners.computeIfPresent(new StrongKey(eventSource), (key, sourceListeners) -> {
+			final Registration[] registrations = sourceListeners.getRegistrations();
+			final List<Registration> newRegistrations = new ArrayList<Registration>(registrations.length);
+			
+			for (final Registration registration : registrations) {
+				final Object existingListener = registration.getListener();
+				
+				if (existingListener == null) {
+					continue;
+				}
+				
+				if (existingListener != listener) {
+					newRegistrations.add(registration);
+					continue;
+				}
+				
+				final List<ListenerMethod> remainingListenerMethods = new ArrayList<ListenerMethod>();
+				
+				for (final ListenerMethod listenerMethod : registration.getListenerMethods()) {
+					if (!eventType.isAssignableFrom(listenerMethod.getEventType())) {
+						remainingListenerMethods.add(listenerMethod);
+					}
+				}
+				
+				if (!remainingListenerMethods.isEmpty()) {
+					newRegistrations.add(registration.withListenerMethods(remainingListenerMethods));
+				}
+			}
+			
+			return newRegistrations.isEmpty() ? null : new SourceListeners(sourceListeners.getSourceKey(), newRegistrations);
+		});
+	}
+	
+	/**
+	 * @return The number of sources that currently have listeners
+	 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+	 */
+	public final int getSourceCount() {
+		return this.listeners.size();
+	}
+	
+	/**
+	 * Counts the registrations of all sources, including those whose weak listener
+	 * has been collected but not reclaimed yet.
+	 * <br>Runs in time proportional to the number of sources.
+	 * 
+	 * @return
+	 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+	 */
+	public final int getRegistrationCount() {
+		int result = 0;
+		
+		for (final SourceListeners sourceListeners : this.listeners.values()) {
+			result += sourceListeners.getRegistrations().length;
+		}
+		
+		return result;
 	}
 	
 	/**
+	 * @return The number of registry entries removed because their source was garbage collected
+	 * <br>Range: <code>[0 .. Long.MAX_VALUE]</code>
+	 */
+	public final long getReclaimedSourceCount() {
+		return this.reclaimedSourceCount.get();
+	}
+	
+	/**
+	 * @return The number of registrations removed because their weak listener was garbage collected
+	 * <br>Range: <code>[0 .. Long.MAX_VALUE]</code>
+	 */
+	public final long getReclaimedListenerCount() {
+		return this.reclaimedListenerCount.get();
+	}
+	
+	/**
+	 * @return
+	 * <br>Maybe null
+	 */
+	public final AsynchronousEventDispatcher getAsynchronousDispatcher() {
+		return this.asynchronousDispatcher;
+	}
+	
+	/**
+	 * @param asynchronousDispatcher
+	 * <br>Maybe null
+	 * <br>If null, {@link #dispatch(Event)} delivers events on the calling thread
+	 */
+	public final void setAsynchronousDispatcher(final AsynchronousEventDispatcher asynchronousDispatcher) {
+		this.asynchronousDispatcher = asynchronousDispatcher;
+	}
+	
+	/**
+	 * Delivers <code>event</code> on the calling thread,
+	 * or queues it if an asynchronous dispatcher is installed.
+	 * 
 	 * @param event
-     * <br>Not null
+	 * <br>Not null
 	 */
-	public final synchronized void dispatch(final Event<?> event) {
-    	final Map<Object, List<Pair<Class<? extends Event<?>>, Method>>> sourceListeners = this.listeners.get(event.getSource());
-    	
-    	if (sourceListeners == null) {
-    		return;
-    	}
-    	
-    	for (final Map.Entry<Object, List<Pair<Class<? extends Event<?>>, Method>>> entry : sourceListeners.entrySet()) {
-    		for (final Pair<Class<? extends Event<?>>, Method> listenerMethod : entry.getValue()) {
-    			if (listenerMethod.getFirst().isAssignableFrom(event.getClass())) {
-    				final Object listener = entry.getKey();
-    				
-					try {
-						listenerMethod.getSecond().setAccessible(true);
-						listenerMethod.getSecond().invoke(listener, event);
-					} catch (final Exception exception) {
-						Logger.getLogger(listener.getClass().getName() + "@" + System.identityHashCode(listener))
-							.log(Level.WARNING, exception.getMessage(), exception);
+	public final void dispatch(final Event<?> event) {
+		final AsynchronousEventDispatcher dispatcher = this.asynchronousDispatcher;
+		
+		if (dispatcher != null) {
+			dispatcher.dispatch(event);
+		} else {
+			this.deliver(event);
+		}
+	}
+	
+	/**
+	 * Calls the listeners of <code>event</code> on the calling thread.
+	 * 
+	 * @param event
+	 * <br>Not null
+	 */
+	final void deliver(final Event<?> event) {
+		final SourceListeners sourceListeners = this.listeners.get(new StrongKey(event.getSource()));
+		
+		if (sourceListeners == null) {
+			return;
+		}
+		
+		final DispatchTable table = sourceListeners.getDispatchTable(event.getClass());
+		final Registration[] registrations = table.getRegistrations();
+		final ListenerMethod[] listenerMethods = table.getListenerMethods();
+		final int n = registrations.length;
+		final DispatchMetrics metrics = DispatchMetrics.getInstance();
+		
+		for (int i = 0; i < n; ++i) {
+			final Object listener = registrations[i].getListener();
+			
+			if (listener != null) {
+				final long start = metrics != null ? System.nanoTime() : 0L;
+				Throwable failure = null;
+				
+				try {
+					listenerMethods[i].invoke(listener, event);
+				} catch (final Throwable exception) {
+					failure = exception;
+				}
+				
+				if (metrics != null) {
+					metrics.record(event.getClass(), listener, System.nanoTime() - start, failure);
+				}
+				
+				if (failure != null) {
+					Logger.getLogger(listener.getClass().getName() + "@" + System.identityHashCode(listener))
+						.log(Level.WARNING, failure.getMessage(), failure);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param eventSource
+	 * <br>Not null
+	 * @param eventType
+	 * <br>Not null
+	 * @param listener
+	 * <br>Not null
+	 * @param strong
+	 * <br>Whether <code>listener</code> must be kept strongly reachable until it is removed
+	 */
+	private final void addListener(final Object eventSource, final Class<? extends Event<?>> eventType, final Object listener, final boolean strong) {
+		final List<ListenerMethod> newListenerMethods = getListenerMethods(listener.getClass(), eventType);
+		
+		if (newListenerMethods.isEmpty()) {
+			return;
+		}
+		
+		this.expungeStaleReferences();
+		
+		final StrongKey lookupKey = new StrongKey(eventSource);
+		
+		while (true) {
+			// The existing weak key is reused, so that no reference object is allocated for a known source
+			if (this.listeners.computeIfPresent(lookupKey, (key, sourceListeners) -> {
+				final WeakKey sourceKey = sourceListeners.getSourceKey();
+				final List<Registration> newRegistrations = new ArrayList<Registration>();
+				boolean merged = false;
+				
+				for (final Registration registration : sourceListeners.getRegistrations()) {
+					final Object existingListener = registration.getListener();
+					
+					if (existingListener == listener) {
+						final List<ListenerMethod> mergedListenerMethods = new ArrayList<ListenerMethod>(registration.getListenerMethods());
+						
+						mergedListenerMethods.addAll(newListenerMethods);
+						newRegistrations.add(strong && !registration.isStrong() ?
+								new Registration(listener, true, mergedListenerMethods, null, null) :
+									registration.withListenerMethods(mergedListenerMethods));
+						merged = true;
+					} else if (existingListener != null) {
+						newRegistrations.add(registration);
+					}
+				}
+				
+				if (!merged) {
+					newRegistrations.add(new Registration(listener, strong, newListenerMethods, sourceKey, this.staleReferences));
+				}
+				
+				return new SourceListeners(sourceKey, newRegistrations);
+			}) != null) {
+				return;
+			}
+			
+			final WeakKey sourceKey = new WeakKey(eventSource, this.staleReferences);
+			
+			if (this.listeners.putIfAbsent(sourceKey, new SourceListeners(sourceKey, Collections.singletonList(
+					new Registration(listener, strong, newListenerMethods, sourceKey, this.staleReferences)))) == null) {
+				return;
+			}
+			
+			// Another thread has registered the source first; the unused key must not be reported as stale
+			sourceKey.clear();
+		}
+	}
+	
+	/**
+	 * Processes the stale references that the cleaner thread hasn't taken yet.
+	 */
+	private final void expungeStaleReferences() {
+		Reference<?> staleReference;
+		
+		while ((staleReference = this.staleReferences.poll()) != null) {
+			this.expunge(staleReference);
+		}
+	}
+	
+	/**
+	 * Body of the cleaner thread.
+	 */
+	private final void reclaimStaleReferences() {
+		while (true) {
+			try {
+				this.expunge(this.staleReferences.remove());
+			} catch (final InterruptedException exception) {
+				return;
+			} catch (final Exception exception) {
+				Logger.getLogger(EventManager.class.getName()).log(Level.WARNING, exception.getMessage(), exception);
+			}
+		}
+	}
+	
+	/**
+	 * Removes the entry of a collected source, or the registrations of the collected weak listeners of a source.
+	 * 
+	 * @param staleReference
+	 * <br>Not null
+	 */
+	private final void expunge(final Reference<?> staleReference) {
+		if (staleReference instanceof ListenerReference) {
+			final Object source = ((ListenerReference) staleReference).getSourceKey().get();
+			
+			if (source != null) {
+				this.listeners.computeIfPresent(new StrongKey(source), (key, sourceListeners) -> {
+					final Registration[] registrations = sourceListeners.getRegistrations();
+					final List<Registration> liveRegistrations = new ArrayList<Registration>(registrations.length);
+					
+					for (final Registration registration : registrations) {
+						if (registration.getListener() != null) {
+							liveRegistrations.add(registration);
+						}
 					}
-    			}
-    		}
-    	}
+					
+					if (liveRegistrations.size() == registrations.length) {
+						return sourceListeners;
+					}
+					
+					this.reclaimedListenerCount.addAndGet(registrations.length - liveRegistrations.size());
+					
+					return liveRegistrations.isEmpty() ? null : new SourceListeners(sourceListeners.getSourceKey(), liveRegistrations);
+				});
+			}
+		} else if (this.listeners.remove(staleReference) != null) {
+			this.reclaimedSourceCount.incrementAndGet();
+		}
 	}
 	
 	private static final Object[] EMPTY_LISTENERS = {};
 	
 	private static final EventManager instance = new EventManager();
 	
+	/**
+	 * Listener methods of each listener class, resolved once per listener class and event type.
+	 */
+	private static final ClassValue<Map<Class<?>, List<ListenerMethod>>> listenerMethods = new ClassValue<Map<Class<?>, List<ListenerMethod>>>() {
+		
+		@Override
+		protected final Map<Class<?>, List<ListenerMethod>> computeValue(final Class<?> listenerClass) {
+			final Map<Class<?>, List<ListenerMethod>> result = new ConcurrentHashMap<Class<?>, List<ListenerMethod>>();
+			final List<ListenerMethod> allListenerMethods = new ArrayList<ListenerMethod>();
+			
+			for (final Method method : set(append(listenerClass.getMethods(), listenerClass.getDeclaredMethods()))) {
+				if (method.isAnnotationPresent(Event.Listener.class)) {
+					final Class<?>[] parameterTypes = method.getParameterTypes();
+					
+					if (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0])) {
+						@SuppressWarnings("unchecked")
+						final Class<? extends Event<?>> eventType = (Class<? extends Event<?>>) parameterTypes[0];
+						
+						allListenerMethods.add(new ListenerMethod(eventType, method));
+					}
+				}
+			}
+			
+			result.put(Event.class, Collections.unmodifiableList(allListenerMethods));
+			
+			return result;
+		}
+		
+	};
+	
+	/**
+	 * @param listenerClass
+	 * <br>Not null
+	 * @param eventType
+	 * <br>Not null
+	 * @return The methods of <code>listenerClass</code> annotated with {@link Listener}
+	 * and whose parameter is a subtype of <code>eventType</code>
+	 * <br>Not null
+	 * <br>Unmodifiable
+	 * <br>Shared
+	 */
+	static final List<ListenerMethod> getListenerMethods(final Class<?> listenerClass, final Class<? extends Event<?>> eventType) {
+		final Map<Class<?>, List<ListenerMethod>> cache = listenerMethods.get(listenerClass);
+		
+		return cache.computeIfAbsent(eventType, key -> {
+			final List<ListenerMethod> result = new ArrayList<ListenerMethod>();
+			
+			for (final ListenerMethod listenerMethod : cache.get(Event.class)) {
+				if (eventType.isAssignableFrom(listenerMethod.getEventType())) {
+					result.add(listenerMethod);
+				}
+			}
+			
+			return result.isEmpty() ? Collections.<ListenerMethod>emptyList() : Collections.unmodifiableList(result);
+		});
+	}
+	
 	/**
 	 * @return
      * <br>Not null
@@ -226,6 +509,358 @@ public final class EventManager {
 		return instance;
 	}
 	
+	/**
+	 * Key of the registry whose identity is the identity of its source.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static abstract interface SourceKey {
+		
+		/**
+		 * @return
+		 * <br>Maybe null
+		 */
+		public abstract Object getSource();
+		
+	}
+	
+	/**
+	 * Lookup key.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class StrongKey implements SourceKey {
+		
+		private final Object source;
+		
+		StrongKey(final Object source) {
+			this.source = source;
+		}
+		
+		@Override
+		public final Object getSource() {
+			return this.source;
+		}
+		
+		@Override
+		public final int hashCode() {
+			return System.identityHashCode(this.source);
+		}
+		
+		@Override
+		public final boolean equals(final Object object) {
+			return object instanceof SourceKey && ((SourceKey) object).getSource() == this.source;
+		}
+		
+	}
+	
+	/**
+	 * Stored key, which doesn't prevent its source from being garbage collected.
+	 * <br>Once cleared, a weak key is only equal to itself.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class WeakKey extends WeakReference<Object> implements SourceKey {
+		
+		private final int hashCode;
+		
+		WeakKey(final Object source, final ReferenceQueue<Object> queue) {
+			super(source, queue);
+			this.hashCode = System.identityHashCode(source);
+		}
+		
+		@Override
+		public final Object getSource() {
+			return this.get();
+		}
+		
+		@Override
+		public final int hashCode() {
+			return this.hashCode;
+		}
+		
+		@Override
+		public final boolean equals(final Object object) {
+			if (this == object) {
+				return true;
+			}
+			
+			final Object source = this.get();
+			
+			return source != null && object instanceof SourceKey && ((SourceKey) object).getSource() == source;
+		}
+		
+	}
+	
+	/**
+	 * Immutable association between a (weak or strong) listener and its listener methods for one source.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class Registration {
+		
+		private final ListenerReference weakListener;
+		
+		private final Object strongListener;
+		
+		private final List<ListenerMethod> listenerMethods;
+		
+		/**
+		 * @param listener
+		 * <br>Not null
+		 * @param strong
+		 * <br>Whether <code>listener</code> is kept strongly reachable
+		 * @param listenerMethods
+		 * <br>Not null
+		 * @param sourceKey
+		 * <br>Not null if <code>!strong</code>
+		 * @param queue
+		 * <br>Not null if <code>!strong</code>
+		 */
+		Registration(final Object listener, final boolean strong, final List<ListenerMethod> listenerMethods,
+				final WeakKey sourceKey, final ReferenceQueue<Object> queue) {
+			this(strong ? null : new ListenerReference(listener, sourceKey, queue), strong ? listener : null, listenerMethods);
+		}
+		
+		private Registration(final ListenerReference weakListener, final Object strongListener, final List<ListenerMethod> listenerMethods) {
+			this.weakListener = weakListener;
+			this.strongListener = strongListener;
+			this.listenerMethods = listenerMethods;
+		}
+		
+		/**
+		 * @param listenerMethods
+		 * <br>Not null
+		 * @return A registration of the same listener, sharing its weak reference if any
+		 * <br>Not null
+		 * <br>New
+		 */
+		public final Registration withListenerMethods(final List<ListenerMethod> listenerMethods) {
+			return new Registration(this.weakListener, this.strongListener, listenerMethods);
+		}
+		
+		/**
+		 * @return
+		 * <br>Maybe null
+		 */
+		public final Object getListener() {
+			return this.strongListener != null ? this.strongListener : this.weakListener.get();
+		}
+		
+		public final boolean isStrong() {
+			return this.strongListener != null;
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 * <br>Must not be modified
+		 */
+		public final List<ListenerMethod> getListenerMethods() {
+			return this.listenerMethods;
+		}
+		
+	}
+	
+	/**
+	 * Weak reference to a listener that remembers its source, so that the registration can be pruned
+	 * once the listener has been collected.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class ListenerReference extends WeakReference<Object> {
+		
+		private final WeakKey sourceKey;
+		
+		ListenerReference(final Object listener, final WeakKey sourceKey, final ReferenceQueue<Object> queue) {
+			super(listener, queue);
+			this.sourceKey = sourceKey;
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 */
+		public final WeakKey getSourceKey() {
+			return this.sourceKey;
+		}
+		
+	}
+	
+	/**
+	 * Immutable registrations of one source, with their dispatch tables computed lazily per event type.
+	 * <br>A new instance is created on every registration change, which invalidates the tables.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class SourceListeners {
+		
+		private final WeakKey sourceKey;
+		
+		private final Registration[] registrations;
+		
+		private final ConcurrentMap<Class<?>, DispatchTable> dispatchTables;
+		
+		/**
+		 * @param sourceKey
+		 * <br>Not null
+		 * <br>The key of these registrations in the registry
+		 * @param registrations
+		 * <br>Not null
+		 */
+		SourceListeners(final WeakKey sourceKey, final List<Registration> registrations) {
+			this.sourceKey = sourceKey;
+			this.registrations = registrations.toArray(new Registration[registrations.size()]);
+			this.dispatchTables = new ConcurrentHashMap<Class<?>, DispatchTable>();
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 * <br>Shared
+		 */
+		public final WeakKey getSourceKey() {
+			return this.sourceKey;
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 * <br>Must not be modified
+		 */
+		public final Registration[] getRegistrations() {
+			return this.registrations;
+		}
+		
+		/**
+		 * @param eventType
+		 * <br>Not null
+		 * @return
+		 * <br>Not null
+		 */
+		public final DispatchTable getDispatchTable(final Class<?> eventType) {
+			final DispatchTable result = this.dispatchTables.get(eventType);
+			
+			return result != null ? result : this.dispatchTables.computeIfAbsent(eventType, key -> new DispatchTable(this.registrations, key));
+		}
+		
+	}
+	
+	/**
+	 * Flat <code>(registration, listener method)</code> pairs to invoke for one source and one event type,
+	 * in registration order.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class DispatchTable {
+		
+		private final Registration[] registrations;
+		
+		private final ListenerMethod[] listenerMethods;
+		
+		/**
+		 * @param registrations
+		 * <br>Not null
+		 * @param eventType
+		 * <br>Not null
+		 */
+		DispatchTable(final Registration[] registrations, final Class<?> eventType) {
+			final List<Registration> selectedRegistrations = new ArrayList<Registration>();
+			final List<ListenerMethod> selectedListenerMethods = new ArrayList<ListenerMethod>();
+			
+			for (final Registration registration : registrations) {
+				for (final ListenerMethod listenerMethod : registration.getListenerMethods()) {
+					if (listenerMethod.getEventType().isAssignableFrom(eventType)) {
+						selectedRegistrations.add(registration);
+						selectedListenerMethods.add(listenerMethod);
+					}
+				}
+			}
+			
+			this.registrations = selectedRegistrations.toArray(new Registration[selectedRegistrations.size()]);
+			this.listenerMethods = selectedListenerMethods.toArray(new ListenerMethod[selectedListenerMethods.size()]);
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 * <br>Must not be modified
+		 */
+		public final Registration[] getRegistrations() {
+			return this.registrations;
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 * <br>Must not be modified
+		 * <br>Same length as {@link #getRegistrations()}
+		 */
+		public final ListenerMethod[] getListenerMethods() {
+			return this.listenerMethods;
+		}
+		
+	}
+	
+	/**
+	 * Listener method compiled once into a {@link MethodHandle}, so that dispatching doesn't go through reflection.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class ListenerMethod {
+		
+		private final Class<? extends Event<?>> eventType;
+		
+		private final MethodHandle invoker;
+		
+		/**
+		 * @param eventType
+		 * <br>Not null
+		 * @param method
+		 * <br>Not null
+		 * <br>Must accept one argument of type <code>eventType</code>
+		 */
+		ListenerMethod(final Class<? extends Event<?>> eventType, final Method method) {
+			this.eventType = eventType;
+			
+			try {
+				method.setAccessible(true);
+				
+				final MethodHandle handle = MethodHandles.lookup().unreflect(method);
+				
+				this.invoker = (Modifier.isStatic(method.getModifiers()) ?
+						MethodHandles.dropArguments(handle, 0, Object.class) : handle).asType(INVOKER_TYPE);
+			} catch (final IllegalAccessException exception) {
+				throw unchecked(exception);
+			}
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 */
+		public final Class<? extends Event<?>> getEventType() {
+			return this.eventType;
+		}
+		
+		/**
+		 * @param listener
+		 * <br>Not null
+		 * @param event
+		 * <br>Not null
+		 * @throws Throwable Whatever the listener method throws
+		 */
+		public final void invoke(final Object listener, final Event<?> event) throws Throwable {
+			this.invoker.invokeExact(listener, (Object) event);
+		}
+		
+		/**
+		 * <code>(Object listener, Object event)void</code>.
+		 */
+		private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+		
+	}
+	
 	/**
 	 * @author codistmonk (creation 2012-06-17)
 	 * @param <S> The event source type
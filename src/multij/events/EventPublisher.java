@@ -0,0 +1,519 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import multij.events.EventManager.Event.Listener;
+
+/**
+ * Exposes the events of an {@link Observable} or of an {@link EventManager} source as a {@link Flow.Publisher}.
+ * <br>The firing thread only appends events to the bounded buffer of each subscriber;
+ * events are delivered on the subscriber's executor, one at a time and only as far as the subscriber has requested them.
+ * <br>When a buffer is full, the {@link Overflow} policy decides what happens to new events, so that the firing thread never blocks.
+ * <br>The publisher listens to its source only while it has subscribers.
+ * 
+ * @param <E> The event type
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class EventPublisher<E> implements Flow.Publisher<E>, AutoCloseable {
+	
+	private final Class<E> eventType;
+	
+	private final Function<Consumer<Object>, Runnable> attach;
+	
+	private final Executor executor;
+	
+	private final int bufferCapacity;
+	
+	private final Overflow overflow;
+	
+	private final List<EventSubscription> subscriptions;
+	
+	private final AtomicLong droppedEventCount;
+	
+	private Runnable detach;
+	
+	private boolean closed;
+	
+	/**
+	 * @param eventType
+	 * <br>Not null
+	 * @param attach
+	 * <br>Not null
+	 * <br>Starts listening to the source with the given event consumer, and returns the action that stops listening
+	 * @param executor
+	 * <br>Not null
+	 * @param bufferCapacity
+	 * <br>Range: <code>[1 .. Integer.MAX_VALUE]</code>
+	 * @param overflow
+	 * <br>Not null
+	 */
+	private EventPublisher(final Class<E> eventType, final Function<Consumer<Object>, Runnable> attach,
+			final Executor executor, final int bufferCapacity, final Overflow overflow) {
+		if (bufferCapacity < 1) {
+			throw new IllegalArgumentException("Invalid buffer capacity: " + bufferCapacity);
+		}
+		
+		this.eventType = eventType;
+		this.attach = attach;
+		this.executor = executor;
+		this.bufferCapacity = bufferCapacity;
+		this.overflow = overflow;
+		this.subscriptions = new CopyOnWriteArrayList<EventSubscription>();
+		this.droppedEventCount = new AtomicLong();
+	}
+	
+	/**
+	 * Subscribes with the executor of this publisher.
+	 */
+	@Override
+	public final void subscribe(final Flow.Subscriber<? super E> subscriber) {
+		this.subscribe(subscriber, this.executor);
+	}
+	
+	/**
+	 * @param subscriber
+	 * <br>Not null
+	 * @param subscriberExecutor
+	 * <br>Not null
+	 * <br>Runs all the calls to <code>subscriber</code>
+	 */
+	public final void subscribe(final Flow.Subscriber<? super E> subscriber, final Executor subscriberExecutor) {
+		final EventSubscription subscription = this.new EventSubscription(
+				Objects.requireNonNull(subscriber), Objects.requireNonNull(subscriberExecutor));
+		
+		synchronized (this) {
+			if (this.closed) {
+				subscription.complete();
+			} else {
+				this.subscriptions.add(subscription);
+				
+				if (this.detach == null) {
+					this.detach = this.attach.apply(this::publish);
+				}
+			}
+		}
+		
+		subscription.signal();
+	}
+	
+	public final int getSubscriberCount() {
+		return this.subscriptions.size();
+	}
+	
+	/**
+	 * @return The number of events discarded because a buffer was full
+	 * <br>Range: <code>[0 .. Long.MAX_VALUE]</code>
+	 */
+	public final long getDroppedEventCount() {
+		return this.droppedEventCount.get();
+	}
+	
+	/**
+	 * Stops listening to the source and completes all subscriptions once their buffered events have been delivered.
+	 */
+	@Override
+	public final void close() {
+		synchronized (this) {
+			if (this.closed) {
+				return;
+			}
+			
+			this.closed = true;
+			this.stopListening();
+		}
+		
+		for (final EventSubscription subscription : this.subscriptions) {
+			subscription.complete();
+		}
+	}
+	
+	/**
+	 * Called on the firing thread.
+	 * 
+	 * @param event
+	 * <br>Maybe null
+	 */
+	final void publish(final Object event) {
+		if (this.eventType.isInstance(event)) {
+			final E e = this.eventType.cast(event);
+			
+			for (final EventSubscription subscription : this.subscriptions) {
+				subscription.offer(e);
+			}
+		}
+	}
+	
+	final void remove(final EventSubscription subscription) {
+		synchronized (this) {
+			if (this.subscriptions.remove(subscription) && this.subscriptions.isEmpty()) {
+				this.stopListening();
+			}
+		}
+	}
+	
+	/**
+	 * Must be called while holding the lock on <code>this</code>.
+	 */
+	private final void stopListening() {
+		if (this.detach != null) {
+			this.detach.run();
+			this.detach = null;
+		}
+	}
+	
+	/**
+	 * Publishes the events of type <code>eventType</code> fired by <code>source</code>.
+	 * <br>The events are received by a proxy implementing <code>listenerType</code>,
+	 * whose methods forward their single argument to the publisher.
+	 * 
+	 * @param source
+	 * <br>Not null
+	 * @param listenerType
+	 * <br>Not null
+	 * <br>Must be an interface
+	 * @param eventType
+	 * <br>Not null
+	 * @param executor
+	 * <br>Not null
+	 * @param bufferCapacity
+	 * <br>Range: <code>[1 .. Integer.MAX_VALUE]</code>
+	 * @param overflow
+	 * <br>Not null
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
+	public static final <L, E extends Observable.Event<?>> EventPublisher<E> of(final Observable<L> source,
+			final Class<L> listenerType, final Class<E> eventType,
+			final Executor executor, final int bufferCapacity, final Overflow overflow) {
+		return new EventPublisher<E>(eventType, publish -> {
+			final L listener = listenerType.cast(Proxy.newProxyInstance(listenerType.getClassLoader(),
+					new Class<?>[] { listenerType }, (proxy, method, arguments) -> {
+						if (method.getDeclaringClass() == Object.class) {
+							switch (method.getName()) {
+							case "equals":
+								return proxy == arguments[0];
+							case "hashCode":
+								return System.identityHashCode(proxy);
+							default:
+								return listenerType.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+							}
+						}
+						
+						if (arguments != null && arguments.length == 1) {
+							publish.accept(arguments[0]);
+						}
+						
+						return null;
+					}));
+			
+			source.addListener(listener);
+			
+			return () -> source.removeListener(listener);
+		}, executor, bufferCapacity, overflow);
+	}
+	
+	/**
+	 * Publishes the events of type <code>eventType</code> dispatched by <code>eventManager</code> for <code>source</code>.
+	 * <br>The publisher is registered as a strong listener while it has subscribers.
+	 * 
+	 * @param eventManager
+	 * <br>Not null
+	 * @param source
+	 * <br>Not null
+	 * @param eventType
+	 * <br>Not null
+	 * @param executor
+	 * <br>Not null
+	 * @param bufferCapacity
+	 * <br>Range: <code>[1 .. Integer.MAX_VALUE]</code>
+	 * @param overflow
+	 * <br>Not null
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
+	public static final <E extends EventManager.Event<?>> EventPublisher<E> of(final EventManager eventManager,
+			final Object source, final Class<E> eventType,
+			final Executor executor, final int bufferCapacity, final Overflow overflow) {
+		// The forwarder accepts all events, so it must be registered for all event types; the publisher filters them
+		@SuppressWarnings("unchecked")
+		final Class<? extends EventManager.Event<?>> anyEventType = (Class<? extends EventManager.Event<?>>) (Class<?>) EventManager.Event.class;
+		
+		return new EventPublisher<E>(eventType, publish -> {
+			final EventForwarder forwarder = new EventForwarder(publish);
+			
+			eventManager.addListener(source, anyEventType, forwarder);
+			
+			return () -> eventManager.removeListener(source, anyEventType, forwarder);
+		}, executor, bufferCapacity, overflow);
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static enum Overflow {
+		
+		/**
+		 * Discards the new event.
+		 */
+		DROP_NEWEST,
+		
+		/**
+		 * Discards the oldest buffered event to make room for the new one.
+		 */
+		DROP_OLDEST,
+		
+		/**
+		 * Cancels the subscription and signals an {@link IllegalStateException} to the subscriber.
+		 */
+		ERROR;
+		
+	}
+	
+	/**
+	 * {@link EventManager} listener that accepts all events and forwards them to a publisher.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static final class EventForwarder {
+		
+		private final Consumer<Object> publish;
+		
+		EventForwarder(final Consumer<Object> publish) {
+			this.publish = publish;
+		}
+		
+		@Listener
+		public final void eventFired(final EventManager.Event<?> event) {
+			this.publish.accept(event);
+		}
+		
+	}
+	
+	/**
+	 * Buffer and demand of one subscriber.
+	 * <br>All the calls to the subscriber are made by {@link #drain()}, which runs on the subscriber's executor
+	 * and is never executed by more than one thread at a time.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	final class EventSubscription implements Flow.Subscription {
+		
+		private final Flow.Subscriber<? super E> subscriber;
+		
+		private final Executor subscriberExecutor;
+		
+		private final BlockingQueue<E> buffer;
+		
+		private final AtomicLong demand;
+		
+		private final AtomicInteger pendingSignals;
+		
+		private boolean subscribed;
+		
+		private volatile boolean cancelled;
+		
+		private volatile boolean completed;
+		
+		private volatile Throwable error;
+		
+		EventSubscription(final Flow.Subscriber<? super E> subscriber, final Executor subscriberExecutor) {
+			this.subscriber = subscriber;
+			this.subscriberExecutor = subscriberExecutor;
+			this.buffer = new ArrayBlockingQueue<E>(EventPublisher.this.bufferCapacity);
+			this.demand = new AtomicLong();
+			this.pendingSignals = new AtomicInteger();
+		}
+		
+		@Override
+		public final void request(final long n) {
+			if (n <= 0L) {
+				this.fail(new IllegalArgumentException("Non-positive request: " + n));
+				
+				return;
+			}
+			
+			this.demand.accumulateAndGet(n, (a, b) -> Long.MAX_VALUE - a < b ? Long.MAX_VALUE : a + b);
+			this.signal();
+		}
+		
+		@Override
+		public final void cancel() {
+			this.cancelled = true;
+			EventPublisher.this.remove(this);
+		}
+		
+		/**
+		 * Called on the firing thread.
+		 */
+		final void offer(final E event) {
+			if (this.cancelled || this.completed) {
+				return;
+			}
+			
+			if (!this.buffer.offer(event)) {
+				switch (EventPublisher.this.overflow) {
+				case DROP_NEWEST:
+					EventPublisher.this.droppedEventCount.incrementAndGet();
+					break;
+				case DROP_OLDEST:
+					while (!this.buffer.offer(event)) {
+						if (this.buffer.poll() != null) {
+							EventPublisher.this.droppedEventCount.incrementAndGet();
+						}
+					}
+					break;
+				case ERROR:
+					this.fail(new IllegalStateException("Buffer overflow (capacity: " + EventPublisher.this.bufferCapacity + ")"));
+					return;
+				}
+			}
+			
+			if (this.demand.get() != 0L) {
+				this.signal();
+			}
+		}
+		
+		final void complete() {
+			this.completed = true;
+			this.signal();
+		}
+		
+		final void fail(final Throwable error) {
+			this.error = error;
+			EventPublisher.this.remove(this);
+			this.signal();
+		}
+		
+		final void signal() {
+			if (this.pendingSignals.getAndIncrement() == 0) {
+				try {
+					this.subscriberExecutor.execute(this::drain);
+				} catch (final RejectedExecutionException exception) {
+					this.cancelled = true;
+					EventPublisher.this.remove(this);
+					Logger.getLogger(EventPublisher.class.getName()).log(Level.WARNING, exception.getMessage(), exception);
+				}
+			}
+		}
+		
+		private final void drain() {
+			int missed = 1;
+			
+			do {
+				if (!this.subscribed) {
+					this.subscribed = true;
+					
+					if (!this.call(() -> this.subscriber.onSubscribe(this))) {
+						return;
+					}
+				}
+				
+				final long requested = this.demand.get();
+				long delivered = 0L;
+				
+				while (delivered != requested && !this.cancelled && this.error == null) {
+					final E event = this.buffer.poll();
+					
+					if (event == null) {
+						break;
+					}
+					
+					if (!this.call(() -> this.subscriber.onNext(event))) {
+						return;
+					}
+					
+					++delivered;
+				}
+				
+				if (delivered != 0L && requested != Long.MAX_VALUE) {
+					this.demand.addAndGet(-delivered);
+				}
+				
+				if (this.cancelled) {
+					this.buffer.clear();
+					
+					return;
+				}
+				
+				final Throwable error = this.error;
+				
+				if (error != null) {
+					this.cancelled = true;
+					this.buffer.clear();
+					this.call(() -> this.subscriber.onError(error));
+					
+					return;
+				}
+				
+				if (this.completed && this.buffer.isEmpty()) {
+					this.cancelled = true;
+					this.call(this.subscriber::onComplete);
+					
+					return;
+				}
+				
+				missed = this.pendingSignals.addAndGet(-missed);
+			} while (missed != 0);
+		}
+		
+		/**
+		 * Cancels this subscription if <code>call</code> throws.
+		 * 
+		 * @return Whether <code>call</code> completed normally
+		 */
+		private final boolean call(final Runnable call) {
+			try {
+				call.run();
+				
+				return true;
+			} catch (final Throwable exception) {
+				Logger.getLogger(this.subscriber.getClass().getName()).log(Level.WARNING, exception.getMessage(), exception);
+				this.cancel();
+				
+				return false;
+			}
+		}
+		
+	}
+	
+}
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import multij.events.EventManager.AbstractEvent;
 import multij.tools.AbstractInvocationHandler;
 import multij.tools.IllegalInstantiationException;
 import multij.tools.Tools;
@@ -64,6 +65,37 @@ public final class EventsTestingTools {
                 new RecorderInvocationHandler<Object>());
     }
 
+    /**
+     * Event carrying an index, to check the order and the coalescing of deliveries.
+     *
+     * @author codistmonk (creation 2026-10-19)
+     */
+    public static final class IndexedEvent extends AbstractEvent<Object> {
+
+        private final int index;
+
+        /**
+         * @param source
+         * <br>Not null
+         * @param index
+         * <br>Any value
+         */
+        public IndexedEvent(final Object source, final int index) {
+            super(source);
+            this.index = index;
+        }
+
+        public final int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * {@value}.
+         */
+        private static final long serialVersionUID = 6361183526829453398L;
+
+    }
+
     /**
      * @author codistmonk (creation 2010-06-18)
      *
@@ -0,0 +1,84 @@
+package multij.events;
+
+import static multij.gencode.GenCodeTools.instantiateTemplateSource;
+import static multij.tools.Tools.toUpperCamelCase;
+
+import java.util.Date;
+
+import multij.gencode.$Atomic;
+import multij.gencode.$Primitive;
+import multij.tools.IllegalInstantiationException;
+import multij.tools.TicToc;
+
+/**
+ * Generates {@link IntVariable}, {@link LongVariable} and {@link DoubleVariable} from {@link PrimitiveVariableTemplate}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class GenerateSources {
+	
+	private GenerateSources() {
+		throw new IllegalInstantiationException();
+	}
+	
+	/**
+	 * @param arguments
+	 * <br>Unused
+	 */
+	public static final void main(final String[] arguments) {
+		final TicToc timer = new TicToc();
+		
+		System.out.println("Source generation started " + new Date(timer.tic()));
+		
+		generate("int", "1", "int", "Integer", "AtomicInteger", "", "");
+		generate("long", "1L", "long", "Long", "AtomicLong", "", "");
+		generate("double", "1.0", "long", "Double", "AtomicLong", "Double.doubleToRawLongBits", "Double.longBitsToDouble");
+		
+		System.out.println("Source generation done in " + timer.toc() + " ms");
+	}
+	
+	/**
+	 * @param primitive
+	 * <br>Not null
+	 * @param one
+	 * <br>Not null
+	 * <br>The literal 1 of type <code>primitive</code>
+	 * @param bits
+	 * <br>Not null
+	 * <br>The primitive type stored in <code>atomic</code>
+	 * @param boxed
+	 * <br>Not null
+	 * @param atomic
+	 * <br>Not null
+	 * @param toBits
+	 * <br>Not null
+	 * <br>Empty if <code>bits</code> is <code>primitive</code>
+	 * @param fromBits
+	 * <br>Not null
+	 * <br>Empty if <code>bits</code> is <code>primitive</code>
+	 */
+	private static final void generate(final String primitive, final String one, final String bits, final String boxed, final String atomic,
+			final String toBits, final String fromBits) {
+		final String operatorPrefix = toUpperCamelCase(primitive);
+		// Integral values are stored as themselves and can use the atomic addition of their holder
+		final boolean integral = primitive.equals(bits);
+		
+		instantiateTemplateSource(
+				"src/",
+				PrimitiveVariableTemplate.class, operatorPrefix + "Variable",
+				"$Integral", Boolean.toString(integral),
+				"$Floating", "",
+				"$ONE", one,
+				"$toBits", toBits,
+				"$fromBits", fromBits,
+				"$applyAs", "applyAs" + operatorPrefix,
+				"$UnaryOperator", operatorPrefix + "UnaryOperator",
+				"$BinaryOperator", operatorPrefix + "BinaryOperator",
+				"$Boxed", boxed,
+				"$Bits", bits,
+				$Atomic.class.getSimpleName(), atomic,
+				$Primitive.class.getSimpleName(), primitive
+		);
+	}
+	
+}
@@ -0,0 +1,314 @@
+/* MACHINE-GENERATED FILE */
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Observable <code>long</code> variable with atomic updates.
+ * <br>Listeners receive the old and new values as primitives; no event is allocated.
+ * <br>Listeners are notified on the updating thread after each update that changes the value;
+ * under contention, the notifications of concurrent updates may arrive in any order,
+ * but each one reports the exact old and new values of its update.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class LongVariable {
+	
+	private final String name;
+	
+	/**
+	 * Raw bits of the value.
+	 */
+	private final AtomicLong value;
+	
+	private volatile Listener[] listeners;
+	
+	private PrimitiveVariableAdapter<Long> adapter;
+	
+	/**
+	 * @param name
+	 * <br>Not null
+	 * @param value
+	 * <br>Any value
+	 */
+	public LongVariable(final String name, final long value) {
+		this.name = name;
+		this.value = new AtomicLong((value));
+		this.listeners = NO_LISTENERS;
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 */
+	public final String getName() {
+		return this.name;
+	}
+	
+	public final long get() {
+		return (this.value.get());
+	}
+	
+	public final void set(final long newValue) {
+		final long newBits = (newValue);
+		final long oldBits = this.value.getAndSet(newBits);
+		
+		if (oldBits != newBits) {
+			this.fire((oldBits), newValue);
+		}
+	}
+	
+	/**
+	 * Values are compared by their raw bits,
+	 * which only differs from <code>==</code> for floating-point values such as <code>-0.0</code> and <code>NaN</code>.
+	 */
+	public final boolean compareAndSet(final long expectedValue, final long newValue) {
+		final long expectedBits = (expectedValue);
+		final long newBits = (newValue);
+		
+		if (!this.value.compareAndSet(expectedBits, newBits)) {
+			return false;
+		}
+		
+		if (expectedBits != newBits) {
+			this.fire(expectedValue, newValue);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * @return The previous value
+	 */
+	public final long getAndAdd(final long delta) {
+		final long result = this.value.getAndAdd(delta);
+		final long newValue = Long.sum(result, delta);
+		
+		if (result != newValue) {
+			this.fire(result, newValue);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return The new value
+	 */
+	public final long addAndGet(final long delta) {
+		final long oldValue = this.value.getAndAdd(delta);
+		final long result = Long.sum(oldValue, delta);
+		
+		if (oldValue != result) {
+			this.fire(oldValue, result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return The new value
+	 */
+	public final long incrementAndGet() {
+		return this.addAndGet(1L);
+	}
+	
+	/**
+	 * @param x
+	 * <br>Any value
+	 * @param accumulator
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The previous value
+	 */
+	public final long getAndAccumulate(final long x, final LongBinaryOperator accumulator) {
+		long oldBits;
+		long newBits;
+		long result;
+		
+		do {
+			oldBits = this.value.get();
+			result = (oldBits);
+			newBits = (accumulator.applyAsLong(result, x));
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire(result, (newBits));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param x
+	 * <br>Any value
+	 * @param accumulator
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The new value
+	 */
+	public final long accumulateAndGet(final long x, final LongBinaryOperator accumulator) {
+		long oldBits;
+		long newBits;
+		long result;
+		
+		do {
+			oldBits = this.value.get();
+			result = accumulator.applyAsLong((oldBits), x);
+			newBits = (result);
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire((oldBits), result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param function
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The new value
+	 */
+	public final long updateAndGet(final LongUnaryOperator function) {
+		long oldBits;
+		long newBits;
+		long result;
+		
+		do {
+			oldBits = this.value.get();
+			result = function.applyAsLong((oldBits));
+			newBits = (result);
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire((oldBits), result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param listener
+	 * <br>Not null
+	 */
+	public final synchronized void addListener(final Listener listener) {
+		final Listener[] oldListeners = this.listeners;
+		final Listener[] newListeners = Arrays.copyOf(oldListeners, oldListeners.length + 1);
+		
+		newListeners[oldListeners.length] = listener;
+		
+		this.listeners = newListeners;
+	}
+	
+	/**
+	 * @param listener
+	 * <br>Maybe null
+	 */
+	public final synchronized void removeListener(final Listener listener) {
+		final Listener[] oldListeners = this.listeners;
+		final int n = oldListeners.length;
+		
+		for (int i = 0; i < n; ++i) {
+			if (oldListeners[i] == listener) {
+				final Listener[] newListeners = new Listener[n - 1];
+				
+				System.arraycopy(oldListeners, 0, newListeners, 0, i);
+				System.arraycopy(oldListeners, i + 1, newListeners, i, n - 1 - i);
+				
+				this.listeners = newListeners;
+				
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * @return A {@link Variable} view of this variable, whose listeners receive boxed events
+	 * <br>Not null
+	 * <br>Shared
+	 */
+	public final synchronized Variable<Long> asVariable() {
+		if (this.adapter == null) {
+			final PrimitiveVariableAdapter<Long> adapter = new PrimitiveVariableAdapter<Long>(
+					Long.class, this.getName(), () -> Long.valueOf(this.get()), value -> this.set(value));
+			
+			this.addListener((variable, oldValue, newValue) -> {
+				// Boxes only for the listeners of the view
+				if (adapter.hasListeners()) {
+					adapter.valueChanged(Long.valueOf(oldValue), Long.valueOf(newValue));
+				}
+			});
+			
+			this.adapter = adapter;
+		}
+		
+		return this.adapter;
+	}
+	
+	@Override
+	public final String toString() {
+		return "LongVariable { " + this.getName() + " " + this.get() + " }";
+	}
+	
+	private final void fire(final long oldValue, final long newValue) {
+		final Listener[] listeners = this.listeners;
+		final int n = listeners.length;
+		
+		for (int i = 0; i < n; ++i) {
+			try {
+				listeners[i].valueChanged(this, oldValue, newValue);
+			} catch (final Exception exception) {
+				Logger.getLogger(this.getClass().getName()).log(Level.SEVERE, null, exception);
+			}
+		}
+	}
+	
+	private static final Listener[] NO_LISTENERS = {};
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface Listener {
+		
+		/**
+		 * @param variable
+		 * <br>Not null
+		 * @param oldValue
+		 * <br>Any value
+		 * @param newValue
+		 * <br>Any value
+		 */
+		public abstract void valueChanged(LongVariable variable, long oldValue, long newValue);
+		
+	}
+	
+}
@@ -24,7 +24,10 @@
 
 package multij.events;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.function.LongSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -105,6 +108,9 @@ public interface Observable<L> extends Serializable {
     }
 
     /**
+     * An event is normally fired once, but it can be re-armed with {@link #rearm()} and fired again,
+     * so that high-rate sources can reuse a single instance and fire without allocating.
+     * <br>Reusable events are not thread-safe: a given instance must be re-armed and fired by one thread at a time.
      *
      * @param <S> the event source type
      * @param <L> the event listener type
@@ -114,12 +120,24 @@ public interface Observable<L> extends Serializable {
     	
 		private final S source;
 		
-        private final long time;
+        /**
+         * Not serialized; restored to {@link #SYSTEM_CLOCK} on deserialization if {@link #timestamped}.
+         */
+        private transient LongSupplier clock;
+        
+        /**
+         * Whether this event has a clock.
+         */
+        private final boolean timestamped;
+        
+        private long time;
         
         private boolean interrupted;
         
         private boolean alreadyFired;
         
+        private transient boolean firing;
+        
         /**
          *
          * @param source
@@ -131,6 +149,26 @@ public interface Observable<L> extends Serializable {
         protected AbstractEvent(final S source, final long time) {
             this.time = time;
             this.source = source;
+            this.clock = null;
+            this.timestamped = false;
+        }
+        
+        /**
+         *
+         * @param source
+         * <br>Not null
+         * <br>Shared
+         * @param clock
+         * <br>Maybe null
+         * <br>Provides the time in milliseconds on creation and on each {@link #rearm()}
+         * <br>If null, timestamps are disabled and the time is always 0
+         * <br>Not serialized: a deserialized event uses {@link #SYSTEM_CLOCK} instead
+         */
+        protected AbstractEvent(final S source, final LongSupplier clock) {
+            this.source = source;
+            this.clock = clock;
+            this.timestamped = clock != null;
+            this.time = clock == null ? 0L : clock.getAsLong();
         }
         
         /**
@@ -140,7 +178,7 @@ public interface Observable<L> extends Serializable {
          * <br>Shared
          */
         protected AbstractEvent(final S source) {
-            this(source, System.currentTimeMillis());
+            this(source, SYSTEM_CLOCK);
         }
         
         @Override
@@ -178,8 +216,37 @@ public interface Observable<L> extends Serializable {
             }
 
             this.alreadyFired = true;
+            this.firing = true;
 
-            this.notifyListeners();
+            try {
+                this.notifyListeners();
+            } finally {
+                this.firing = false;
+            }
+        }
+        
+        /**
+         * Makes this event fireable again: clears the fired and interrupted flags,
+         * and takes a new timestamp from the clock (if this event has one).
+         * <br>Subclasses with mutable payloads should update them before calling {@link #fire()} again.
+         *
+         * @return {@code this}
+         * <br>Not null
+         * @throws IllegalStateException if this event is being fired
+         */
+        public final AbstractEvent<S, L> rearm() {
+            if (this.firing) {
+                throw new IllegalStateException("Being fired");
+            }
+            
+            this.alreadyFired = false;
+            this.interrupted = false;
+            
+            if (this.clock != null) {
+                this.time = this.clock.getAsLong();
+            }
+            
+            return this;
         }
         
         /**
@@ -190,9 +257,46 @@ public interface Observable<L> extends Serializable {
          */
         protected abstract void notifyListener(L listener);
         
+        @SuppressWarnings("unchecked")
         private final void notifyListeners() {
-            for (final L listener : this.getSource().getListeners()) {
-                this.tryToNotifyListener(listener);
+            final DispatchMetrics metrics = DispatchMetrics.getInstance();
+            final S source = this.getSource();
+            
+            if (source instanceof AbstractObservable) {
+                // Indexed loop over the copy-on-write array: no lock, no copy, no iterator
+                final Object[] listeners = ((AbstractObservable<?>) source).getListenerArray();
+                final int n = listeners.length;
+                
+                if (metrics == null) {
+                    // Allocation-free path
+                    for (int i = 0; i < n; ++i) {
+                        try {
+                            this.notifyListener((L) listeners[i]);
+                        } catch (final Exception exception) {
+                            this.logFailure(exception);
+                        }
+                        
+                        if (this.interrupted) {
+                            break;
+                        }
+                    }
+                    
+                    return;
+                }
+                
+                for (int i = 0; i < n; ++i) {
+                    this.tryToNotifyListener((L) listeners[i], metrics);
+                    
+                    if (this.isInterrupted()) {
+                        break;
+                    }
+                }
+                
+                return;
+            }
+            
+            for (final L listener : source.getListeners()) {
+                this.tryToNotifyListener(listener, metrics);
 
                 if (this.isInterrupted()) {
                     break;
@@ -205,12 +309,37 @@ public interface Observable<L> extends Serializable {
          * @param listener
          * <br>Not null
          * <br>Input-output
+         * @param metrics
+         * <br>Maybe null
          */
-        private final void tryToNotifyListener(final L listener) {
+        private final void tryToNotifyListener(final L listener, final DispatchMetrics metrics) {
+            final long start = metrics != null ? System.nanoTime() : 0L;
+            Exception failure = null;
+            
             try {
                 this.notifyListener(listener);
             } catch (final Exception exception) {
-                Logger.getLogger(this.getClass().getName()).log(Level.SEVERE, null, exception);
+                failure = exception;
+            }
+            
+            if (metrics != null) {
+                metrics.record(this.getClass(), listener, System.nanoTime() - start, failure);
+            }
+            
+            if (failure != null) {
+                this.logFailure(failure);
+            }
+        }
+        
+        private final void logFailure(final Exception failure) {
+            Logger.getLogger(this.getClass().getName()).log(Level.SEVERE, null, failure);
+        }
+        
+        private final void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+            input.defaultReadObject();
+            
+            if (this.timestamped) {
+                this.clock = SYSTEM_CLOCK;
             }
         }
     	
@@ -219,6 +348,11 @@ public interface Observable<L> extends Serializable {
 		 */
 		private static final long serialVersionUID = 8150049535482287327L;
 		
+		/**
+		 * The default clock.
+		 */
+		public static final LongSupplier SYSTEM_CLOCK = System::currentTimeMillis;
+		
     }
 
 }
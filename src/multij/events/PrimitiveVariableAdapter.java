@@ -0,0 +1,155 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link Variable} view of a primitive variable such as {@link IntVariable}.
+ * <br>Events are only allocated when this view has listeners.
+ * 
+ * @param <T> The boxed value type
+ * @author codistmonk (creation 2026-10-19)
+ */
+final class PrimitiveVariableAdapter<T> extends AbstractObservable<Variable.Listener<T>> implements Variable<T> {
+	
+	private final Class<T> type;
+	
+	private final String name;
+	
+	private final Supplier<T> getter;
+	
+	private final Consumer<T> setter;
+	
+	/**
+	 * @param type
+	 * <br>Not null
+	 * @param name
+	 * <br>Not null
+	 * @param getter
+	 * <br>Not null
+	 * @param setter
+	 * <br>Not null
+	 */
+	PrimitiveVariableAdapter(final Class<T> type, final String name, final Supplier<T> getter, final Consumer<T> setter) {
+		this.type = type;
+		this.name = name;
+		this.getter = getter;
+		this.setter = setter;
+	}
+	
+	@Override
+	public final Class<T> getType() {
+		return this.type;
+	}
+	
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+	
+	@Override
+	public final T getValue() {
+		return this.getter.get();
+	}
+	
+	/**
+	 * @param value
+	 * <br>Not null
+	 */
+	@Override
+	public final void setValue(final T value) {
+		this.setter.accept(value);
+	}
+	
+	@Override
+	public final String toString() {
+		return this.getClass().getSimpleName() + " { " + this.getType() + " " + this.getName() + " " + this.getValue() + " }";
+	}
+	
+	/**
+	 * Lets the primitive variable avoid boxing its values when nobody listens to this view.
+	 */
+	final boolean hasListeners() {
+		return this.getListenerArray().length != 0;
+	}
+	
+	/**
+	 * @param oldValue
+	 * <br>Not null
+	 * @param newValue
+	 * <br>Not null
+	 */
+	final void valueChanged(final T oldValue, final T newValue) {
+		if (this.hasListeners()) {
+			this.new ValueChangedEvent(oldValue, newValue).fire();
+		}
+	}
+	
+	/**
+	 * {@value}.
+	 */
+	private static final long serialVersionUID = -2130469370564924394L;
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public final class ValueChangedEvent
+			extends AbstractObservable<Variable.Listener<T>>.AbstractEvent<PrimitiveVariableAdapter<T>, Variable.Listener<T>>
+			implements Variable.ValueChangedEvent<T, PrimitiveVariableAdapter<T>> {
+		
+		private final T oldValue;
+		
+		private final T newValue;
+		
+		ValueChangedEvent(final T oldValue, final T newValue) {
+			this.oldValue = oldValue;
+			this.newValue = newValue;
+		}
+		
+		@Override
+		public final T getOldValue() {
+			return this.oldValue;
+		}
+		
+		@Override
+		public final T getNewValue() {
+			return this.newValue;
+		}
+		
+		@Override
+		protected final void notifyListener(final Variable.Listener<T> listener) {
+			listener.valueChanged(this);
+		}
+		
+		/**
+		 * {@value}.
+		 */
+		private static final long serialVersionUID = 4937404707440919713L;
+		
+	}
+	
+}
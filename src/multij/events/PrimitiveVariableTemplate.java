@@ -0,0 +1,341 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static multij.gencode.$Atomic.$ONE;
+import static multij.gencode.$Atomic.$fromBits;
+import static multij.gencode.$Atomic.$toBits;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import multij.gencode.$Atomic;
+import multij.gencode.$Atomic.$BinaryOperator;
+import multij.gencode.$Atomic.$Bits;
+import multij.gencode.$Atomic.$Boxed;
+import multij.gencode.$Atomic.$UnaryOperator;
+import multij.gencode.$Primitive;
+
+/**
+ * Observable <code>$Primitive</code> variable with atomic updates.
+ * <br>Listeners receive the old and new values as primitives; no event is allocated.
+ * <br>Listeners are notified on the updating thread after each update that changes the value;
+ * under contention, the notifications of concurrent updates may arrive in any order,
+ * but each one reports the exact old and new values of its update.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class PrimitiveVariableTemplate {
+	
+	private final String name;
+	
+	/**
+	 * Raw bits of the value.
+	 */
+	private final $Atomic value;
+	
+	private volatile Listener[] listeners;
+	
+	private PrimitiveVariableAdapter<$Boxed> adapter;
+	
+	/**
+	 * @param name
+	 * <br>Not null
+	 * @param value
+	 * <br>Any value
+	 */
+	public PrimitiveVariableTemplate(final String name, final $Primitive value) {
+		this.name = name;
+		this.value = new $Atomic($toBits(value));
+		this.listeners = NO_LISTENERS;
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 */
+	public final String getName() {
+		return this.name;
+	}
+	
+	public final $Primitive get() {
+		return $fromBits(this.value.get());
+	}
+	
+	public final void set(final $Primitive newValue) {
+		final $Bits newBits = $toBits(newValue);
+		final $Bits oldBits = this.value.getAndSet(newBits);
+		
+		if (oldBits != newBits) {
+			this.fire($fromBits(oldBits), newValue);
+		}
+	}
+	
+	/**
+	 * Values are compared by their raw bits,
+	 * which only differs from <code>==</code> for floating-point values such as <code>-0.0</code> and <code>NaN</code>.
+	 */
+	public final boolean compareAndSet(final $Primitive expectedValue, final $Primitive newValue) {
+		final $Bits expectedBits = $toBits(expectedValue);
+		final $Bits newBits = $toBits(newValue);
+		
+		if (!this.value.compareAndSet(expectedBits, newBits)) {
+			return false;
+		}
+		
+		if (expectedBits != newBits) {
+			this.fire(expectedValue, newValue);
+		}
+		
+		return true;
+	}
+	
+	//$if $Integral
+	/**
+	 * @return The previous value
+	 */
+	public final $Primitive getAndAdd(final $Primitive delta) {
+		final $Primitive result = this.value.getAndAdd(delta);
+		final $Primitive newValue = $Boxed.sum(result, delta);
+		
+		if (result != newValue) {
+			this.fire(result, newValue);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return The new value
+	 */
+	public final $Primitive addAndGet(final $Primitive delta) {
+		final $Primitive oldValue = this.value.getAndAdd(delta);
+		final $Primitive result = $Boxed.sum(oldValue, delta);
+		
+		if (oldValue != result) {
+			this.fire(oldValue, result);
+		}
+		
+		return result;
+	}
+	
+	//$else
+	/**
+	 * @return The previous value
+	 */
+	public final $Primitive getAndAdd$Floating(final $Primitive delta) {
+		return this.getAndAccumulate(delta, $Boxed::sum);
+	}
+	
+	/**
+	 * @return The new value
+	 */
+	public final $Primitive addAndGet$Floating(final $Primitive delta) {
+		return this.accumulateAndGet(delta, $Boxed::sum);
+	}
+	
+	//$endif
+	/**
+	 * @return The new value
+	 */
+	public final $Primitive incrementAndGet() {
+		return this.addAndGet($ONE);
+	}
+	
+	/**
+	 * @param x
+	 * <br>Any value
+	 * @param accumulator
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The previous value
+	 */
+	public final $Primitive getAndAccumulate(final $Primitive x, final $BinaryOperator accumulator) {
+		$Bits oldBits;
+		$Bits newBits;
+		$Primitive result;
+		
+		do {
+			oldBits = this.value.get();
+			result = $fromBits(oldBits);
+			newBits = $toBits(accumulator.$applyAs(result, x));
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire(result, $fromBits(newBits));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param x
+	 * <br>Any value
+	 * @param accumulator
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The new value
+	 */
+	public final $Primitive accumulateAndGet(final $Primitive x, final $BinaryOperator accumulator) {
+		$Bits oldBits;
+		$Bits newBits;
+		$Primitive result;
+		
+		do {
+			oldBits = this.value.get();
+			result = accumulator.$applyAs($fromBits(oldBits), x);
+			newBits = $toBits(result);
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire($fromBits(oldBits), result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param function
+	 * <br>Not null
+	 * <br>Should be side-effect free, since it may be called several times
+	 * @return The new value
+	 */
+	public final $Primitive updateAndGet(final $UnaryOperator function) {
+		$Bits oldBits;
+		$Bits newBits;
+		$Primitive result;
+		
+		do {
+			oldBits = this.value.get();
+			result = function.$applyAs($fromBits(oldBits));
+			newBits = $toBits(result);
+		} while (!this.value.compareAndSet(oldBits, newBits));
+		
+		if (oldBits != newBits) {
+			this.fire($fromBits(oldBits), result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param listener
+	 * <br>Not null
+	 */
+	public final synchronized void addListener(final Listener listener) {
+		final Listener[] oldListeners = this.listeners;
+		final Listener[] newListeners = Arrays.copyOf(oldListeners, oldListeners.length + 1);
+		
+		newListeners[oldListeners.length] = listener;
+		
+		this.listeners = newListeners;
+	}
+	
+	/**
+	 * @param listener
+	 * <br>Maybe null
+	 */
+	public final synchronized void removeListener(final Listener listener) {
+		final Listener[] oldListeners = this.listeners;
+		final int n = oldListeners.length;
+		
+		for (int i = 0; i < n; ++i) {
+			if (oldListeners[i] == listener) {
+				final Listener[] newListeners = new Listener[n - 1];
+				
+				System.arraycopy(oldListeners, 0, newListeners, 0, i);
+				System.arraycopy(oldListeners, i + 1, newListeners, i, n - 1 - i);
+				
+				this.listeners = newListeners;
+				
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * @return A {@link Variable} view of this variable, whose listeners receive boxed events
+	 * <br>Not null
+	 * <br>Shared
+	 */
+	public final synchronized Variable<$Boxed> asVariable() {
+		if (this.adapter == null) {
+			final PrimitiveVariableAdapter<$Boxed> adapter = new PrimitiveVariableAdapter<$Boxed>(
+					$Boxed.class, this.getName(), () -> $Boxed.valueOf(this.get()), value -> this.set(value));
+			
+			this.addListener((variable, oldValue, newValue) -> {
+				// Boxes only for the listeners of the view
+				if (adapter.hasListeners()) {
+					adapter.valueChanged($Boxed.valueOf(oldValue), $Boxed.valueOf(newValue));
+				}
+			});
+			
+			this.adapter = adapter;
+		}
+		
+		return this.adapter;
+	}
+	
+	@Override
+	public final String toString() {
+		return "PrimitiveVariableTemplate { " + this.getName() + " " + this.get() + " }";
+	}
+	
+	private final void fire(final $Primitive oldValue, final $Primitive newValue) {
+		final Listener[] listeners = this.listeners;
+		final int n = listeners.length;
+		
+		for (int i = 0; i < n; ++i) {
+			try {
+				listeners[i].valueChanged(this, oldValue, newValue);
+			} catch (final Exception exception) {
+				Logger.getLogger(this.getClass().getName()).log(Level.SEVERE, null, exception);
+			}
+		}
+	}
+	
+	private static final Listener[] NO_LISTENERS = {};
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface Listener {
+		
+		/**
+		 * @param variable
+		 * <br>Not null
+		 * @param oldValue
+		 * <br>Any value
+		 * @param newValue
+		 * <br>Any value
+		 */
+		public abstract void valueChanged(PrimitiveVariableTemplate variable, $Primitive oldValue, $Primitive newValue);
+		
+	}
+	
+}
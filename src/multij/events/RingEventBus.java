@@ -0,0 +1,455 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Event bus built on a preallocated ring of reusable, mutable event slots (in the style of the LMAX Disruptor).
+ * <br>Producers claim a sequence, fill the slot of that sequence, then publish it;
+ * each handler runs on its own thread and consumes published slots in sequence order, in batches.
+ * <br>Producers never overwrite a slot that some handler hasn't consumed yet,
+ * and nothing is allocated once the bus is started.
+ * <br>This bus is independent of {@link EventManager}: it is meant for high-rate streams
+ * for which allocating and dispatching one event object per occurrence is too expensive.
+ * 
+ * @param <E> The slot type
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class RingEventBus<E> {
+	
+	private final Object[] slots;
+	
+	private final int mask;
+	
+	private final int indexShift;
+	
+	private final boolean multipleProducers;
+	
+	/**
+	 * Last claimed sequence.
+	 */
+	private final AtomicLong claimed;
+	
+	/**
+	 * Last published sequence, only used with a single producer.
+	 */
+	private final AtomicLong cursor;
+	
+	/**
+	 * Round of the last published sequence of each slot, only used with multiple producers.
+	 */
+	private final AtomicIntegerArray availableRounds;
+	
+	private final List<BatchProcessor<E>> processors;
+	
+	private volatile BatchProcessor<?>[] gatingProcessors;
+	
+	private volatile long gatingSequenceCache;
+	
+	private volatile boolean running;
+	
+	/**
+	 * Set when the handlers stop consuming, either because of {@link #halt()} or because a handler thread has died,
+	 * so that producers fail instead of waiting forever for free slots.
+	 */
+	private volatile boolean halted;
+	
+	/**
+	 * @param slotFactory
+	 * <br>Not null
+	 * <br>Called once per slot
+	 * @param capacity
+	 * <br>Range: <code>{ 2^k | k in [0 .. 30] }</code>
+	 * @param multipleProducers
+	 * <br>Whether several threads may publish concurrently
+	 */
+	public RingEventBus(final Supplier<? extends E> slotFactory, final int capacity, final boolean multipleProducers) {
+		if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of 2: " + capacity);
+		}
+		
+		this.slots = new Object[capacity];
+		this.mask = capacity - 1;
+		this.indexShift = Integer.numberOfTrailingZeros(capacity);
+		this.multipleProducers = multipleProducers;
+		this.claimed = new AtomicLong(-1L);
+		this.cursor = new AtomicLong(-1L);
+		this.availableRounds = multipleProducers ? new AtomicIntegerArray(capacity) : null;
+		this.processors = new ArrayList<BatchProcessor<E>>();
+		this.gatingProcessors = new BatchProcessor<?>[0];
+		this.gatingSequenceCache = -1L;
+		
+		for (int i = 0; i < capacity; ++i) {
+			this.slots[i] = slotFactory.get();
+			
+			if (multipleProducers) {
+				this.availableRounds.set(i, -1);
+			}
+		}
+	}
+	
+	public final int getCapacity() {
+		return this.slots.length;
+	}
+	
+	public final boolean isRunning() {
+		return this.running;
+	}
+	
+	/**
+	 * Must be called before {@link #start(Executor)}.
+	 * 
+	 * @param handler
+	 * <br>Not null
+	 * @return <code>this</code>
+	 * <br>Not null
+	 */
+	public final synchronized RingEventBus<E> addHandler(final Handler<? super E> handler) {
+		if (this.isRunning()) {
+			throw new IllegalStateException("Already started");
+		}
+		
+		this.processors.add(new BatchProcessor<E>(this, handler, this.claimed.get()));
+		this.gatingProcessors = this.processors.toArray(new BatchProcessor<?>[this.processors.size()]);
+		
+		return this;
+	}
+	
+	/**
+	 * Submits one long-running task per handler to <code>executor</code>.
+	 * 
+	 * @param executor
+	 * <br>Not null
+	 * <br>Must be able to run all the handlers concurrently
+	 */
+	public final synchronized void start(final Executor executor) {
+		if (this.isRunning()) {
+			throw new IllegalStateException("Already started");
+		}
+		
+		this.halted = false;
+		this.running = true;
+		
+		for (final BatchProcessor<E> processor : this.processors) {
+			// Processors are reused when the bus is restarted, so halt() must wait for them again
+			processor.terminated = false;
+			executor.execute(processor);
+		}
+	}
+	
+	/**
+	 * Stops the handlers after they have consumed everything published so far, and waits for them.
+	 * <br>Producers then fail with an {@link IllegalStateException} until the bus is started again.
+	 */
+	public final synchronized void halt() {
+		if (!this.isRunning()) {
+			return;
+		}
+		
+		this.halted = true;
+		this.running = false;
+		
+		for (final BatchProcessor<?> processor : this.gatingProcessors) {
+			processor.awaitTermination();
+		}
+	}
+	
+	/**
+	 * Claims the next sequence, waiting while its slot is still being consumed.
+	 * <br>The slot must then be filled with {@link #get(long)} and published with {@link #publish(long)}.
+	 * 
+	 * @return
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @throws IllegalStateException If the bus has been halted, or if a handler thread has died
+	 */
+	public final long next() {
+		this.checkNotHalted();
+		
+		final long result;
+		
+		if (this.multipleProducers) {
+			result = this.claimed.incrementAndGet();
+		} else {
+			result = this.claimed.get() + 1L;
+			this.claimed.lazySet(result);
+		}
+		
+		final long wrapPoint = result - this.slots.length;
+		
+		if (this.gatingSequenceCache < wrapPoint) {
+			long gatingSequence;
+			
+			for (int spins = 0; (gatingSequence = this.getMinimumProcessedSequence(result - 1L)) < wrapPoint; ++spins) {
+				this.checkNotHalted();
+				idle(spins);
+			}
+			
+			this.gatingSequenceCache = gatingSequence;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param sequence
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @return The slot of <code>sequence</code>
+	 * <br>Not null
+	 * <br>Shared
+	 */
+	@SuppressWarnings("unchecked")
+	public final E get(final long sequence) {
+		return (E) this.slots[(int) sequence & this.mask];
+	}
+	
+	/**
+	 * Makes the slot of <code>sequence</code> visible to the handlers.
+	 * 
+	 * @param sequence
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * <br>Must have been returned by {@link #next()}
+	 */
+	public final void publish(final long sequence) {
+		if (this.multipleProducers) {
+			this.availableRounds.lazySet((int) sequence & this.mask, (int) (sequence >>> this.indexShift));
+		} else {
+			this.cursor.lazySet(sequence);
+		}
+	}
+	
+	/**
+	 * Claims, fills with <code>translator</code> and publishes the next slot.
+	 * 
+	 * @param translator
+	 * <br>Not null
+	 * @param argument
+	 * <br>Maybe null
+	 */
+	public final <A> void publish(final BiConsumer<? super E, ? super A> translator, final A argument) {
+		final long sequence = this.next();
+		
+		try {
+			translator.accept(this.get(sequence), argument);
+		} finally {
+			this.publish(sequence);
+		}
+	}
+	
+	/**
+	 * Claims, fills with <code>translator</code> and publishes the next slot, without boxing <code>argument</code>.
+	 * 
+	 * @param translator
+	 * <br>Not null
+	 * @param argument
+	 * <br>Any value
+	 */
+	public final void publish(final ObjLongConsumer<? super E> translator, final long argument) {
+		final long sequence = this.next();
+		
+		try {
+			translator.accept(this.get(sequence), argument);
+		} finally {
+			this.publish(sequence);
+		}
+	}
+	
+	/**
+	 * @throws IllegalStateException If the handlers have stopped consuming
+	 */
+	private final void checkNotHalted() {
+		if (this.halted) {
+			throw new IllegalStateException("Halted");
+		}
+	}
+	
+	/**
+	 * Called when a handler thread stops consuming while the bus is still running.
+	 */
+	final void processorDied() {
+		this.halted = true;
+	}
+	
+	/**
+	 * @param defaultValue
+	 * <br>Returned if there is no handler
+	 * @return The lowest sequence consumed by all handlers
+	 */
+	final long getMinimumProcessedSequence(final long defaultValue) {
+		long result = defaultValue;
+		
+		for (final BatchProcessor<?> processor : this.gatingProcessors) {
+			result = Math.min(result, processor.getSequence());
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param sequence
+	 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+	 * @return The highest published sequence in <code>[sequence - 1L .. Long.MAX_VALUE]</code>
+	 * such that all the sequences from <code>sequence</code> to it are published
+	 */
+	final long getHighestPublishedSequence(final long sequence) {
+		if (!this.multipleProducers) {
+			return this.cursor.get();
+		}
+		
+		final long last = this.claimed.get();
+		
+		for (long s = sequence; s <= last; ++s) {
+			if (this.availableRounds.get((int) s & this.mask) != (int) (s >>> this.indexShift)) {
+				return s - 1L;
+			}
+		}
+		
+		return last;
+	}
+	
+	/**
+	 * Spins, then yields, then parks for increasing durations.
+	 * 
+	 * @param spins
+	 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+	 */
+	static final void idle(final int spins) {
+		if (spins < 100) {
+			Thread.onSpinWait();
+		} else if (spins < 200) {
+			Thread.yield();
+		} else {
+			LockSupport.parkNanos(Math.min(1_000_000L, 1_000L << Math.min(10, (spins - 200) / 100)));
+		}
+	}
+	
+	/**
+	 * @param <E> The slot type
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface Handler<E> {
+		
+		/**
+		 * @param event
+		 * <br>Not null
+		 * <br>Shared; must not be retained after this call returns
+		 * @param sequence
+		 * <br>Range: <code>[0L .. Long.MAX_VALUE]</code>
+		 * @param endOfBatch
+		 * <br>Whether <code>event</code> is the last published slot currently available to this handler
+		 */
+		public abstract void onEvent(E event, long sequence, boolean endOfBatch);
+		
+	}
+	
+	/**
+	 * Runs one handler and tracks the sequence it has consumed.
+	 * 
+	 * @param <E> The slot type
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class BatchProcessor<E> implements Runnable {
+		
+		private final RingEventBus<E> bus;
+		
+		private final Handler<? super E> handler;
+		
+		private final AtomicLong sequence;
+		
+		private volatile boolean terminated;
+		
+		BatchProcessor(final RingEventBus<E> bus, final Handler<? super E> handler, final long sequence) {
+			this.bus = bus;
+			this.handler = handler;
+			this.sequence = new AtomicLong(sequence);
+		}
+		
+		final long getSequence() {
+			return this.sequence.get();
+		}
+		
+		@Override
+		public final void run() {
+			try {
+				long next = this.sequence.get() + 1L;
+				int spins = 0;
+				
+				while (true) {
+					final boolean running = this.bus.isRunning();
+					final long available = this.bus.getHighestPublishedSequence(next);
+					
+					if (available < next) {
+						if (!running) {
+							return;
+						}
+						
+						idle(spins++);
+						
+						continue;
+					}
+					
+					spins = 0;
+					
+					for (long s = next; s <= available; ++s) {
+						try {
+							this.handler.onEvent(this.bus.get(s), s, s == available);
+						} catch (final Throwable throwable) {
+							// The sequence must advance anyway, or the producers would wait for this slot forever
+							Logger.getLogger(this.handler.getClass().getName() + "@" + System.identityHashCode(this.handler))
+								.log(Level.SEVERE, throwable.getMessage(), throwable);
+						}
+					}
+					
+					this.sequence.lazySet(available);
+					next = available + 1L;
+				}
+			} finally {
+				if (this.bus.isRunning()) {
+					this.bus.processorDied();
+				}
+				
+				this.terminated = true;
+			}
+		}
+		
+		final void awaitTermination() {
+			for (int spins = 0; !this.terminated; ++spins) {
+				idle(spins);
+			}
+		}
+		
+	}
+	
+}
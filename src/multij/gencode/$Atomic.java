@@ -0,0 +1,117 @@
+package multij.gencode;
+
+import static multij.tools.Tools.ignore;
+
+/**
+ * Placeholder for the atomic holders of Java primitive values
+ * ({@link java.util.concurrent.atomic.AtomicInteger}, {@link java.util.concurrent.atomic.AtomicLong}),
+ * and for the types and functions used to store primitive values in them.
+ * <br>Floating-point values are stored as their raw bits.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class $Atomic {
+	
+	public $Atomic(final $Bits initialValue) {
+		ignore(initialValue);
+	}
+	
+	public final $Bits get() {
+		return null;
+	}
+	
+	public final $Bits getAndSet(final $Bits newValue) {
+		ignore(newValue);
+		
+		return null;
+	}
+	
+	public final boolean compareAndSet(final $Bits expectedValue, final $Bits newValue) {
+		ignore(expectedValue);
+		ignore(newValue);
+		
+		return false;
+	}
+	
+	/**
+	 * Only available for integral types.
+	 */
+	public final $Primitive getAndAdd(final $Primitive delta) {
+		ignore(delta);
+		
+		return null;
+	}
+	
+	/**
+	 * Placeholder for the literal 1 of the primitive type.
+	 */
+	public static final $Primitive $ONE = null;
+	
+	public static final $Bits $toBits(final $Primitive value) {
+		ignore(value);
+		
+		return null;
+	}
+	
+	public static final $Primitive $fromBits(final $Bits bits) {
+		ignore(bits);
+		
+		return null;
+	}
+	
+	/**
+	 * Placeholder for the type of the stored bits.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface $Bits {
+		
+		// Deliberately left empty
+		
+	}
+	
+	/**
+	 * Placeholder for the wrapper classes of Java primitive types.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface $Boxed extends $Primitive {
+		
+		public static $Boxed valueOf(final $Primitive value) {
+			ignore(value);
+			
+			return null;
+		}
+		
+		public static $Primitive sum(final $Primitive a, final $Primitive b) {
+			ignore(a);
+			ignore(b);
+			
+			return null;
+		}
+		
+	}
+	
+	/**
+	 * Placeholder for {@link java.util.function.IntUnaryOperator} and its siblings.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface $UnaryOperator {
+		
+		public abstract $Primitive $applyAs($Primitive operand);
+		
+	}
+	
+	/**
+	 * Placeholder for {@link java.util.function.IntBinaryOperator} and its siblings.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract interface $BinaryOperator {
+		
+		public abstract $Primitive $applyAs($Primitive left, $Primitive right);
+		
+	}
+	
+}
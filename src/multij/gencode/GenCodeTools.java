@@ -51,6 +51,10 @@ public final class GenCodeTools {
 	}
 	
 	/**
+	 * Lines between <code>//$if KEY</code> and <code>//$else</code> (or <code>//$endif</code>) are only kept
+	 * if <code>KEY</code> is replaced with <code>"true"</code>, and lines between <code>//$else</code>
+	 * and <code>//$endif</code> only if it isn't; these sections can't be nested.
+	 * 
 	 * @param rootDirectory
 	 * <br>Must not be null
 	 * @param template
@@ -77,8 +81,32 @@ public final class GenCodeTools {
 				final PrintStream output = new PrintStream(outputPath)) {
 			output.println("/* MACHINE-GENERATED FILE */");
 			
+			boolean previousLineIsBlank = false;
+			boolean importDropped = false;
+			boolean keepingLines = true;
+			
 			while (input.hasNext()) {
 				String line = input.nextLine();
+				final String trimmedLine = line.trim();
+				
+				if (trimmedLine.startsWith("//$if ")) {
+					keepingLines = "true".equals(r.get(trimmedLine.substring("//$if ".length()).trim()));
+					continue;
+				}
+				
+				if ("//$else".equals(trimmedLine)) {
+					keepingLines = !keepingLines;
+					continue;
+				}
+				
+				if ("//$endif".equals(trimmedLine)) {
+					keepingLines = true;
+					continue;
+				}
+				
+				if (!keepingLines) {
+					continue;
+				}
 				
 				for (final String replaced : r.keySet()) {
 					if (line.startsWith("import ") && line.endsWith(replaced + ";") && line.contains("$")) {
@@ -88,12 +116,22 @@ public final class GenCodeTools {
 					
 				}
 				
-				if (line != null) {
+				if (line == null) {
+					importDropped = true;
+				} else {
 					for (final Map.Entry<String, String> entry : r.entrySet()) {
 						line = line.replaceAll(Pattern.quote(entry.getKey()), entry.getValue());
 					}
 					
-					output.println(line);
+					final boolean lineIsBlank = line.trim().isEmpty();
+					
+					// Don't leave the blank lines of a group of dropped imports
+					if (!lineIsBlank || !previousLineIsBlank || !importDropped) {
+						output.println(line);
+					}
+					
+					previousLineIsBlank = lineIsBlank;
+					importDropped = false;
 				}
 			}
 		} catch (final FileNotFoundException exception) {
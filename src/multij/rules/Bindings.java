@@ -0,0 +1,321 @@
+package multij.rules;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Mapping from {@link Variable}s to values that records every change in a trail,
+ * so that all the changes made since a {@link #mark()} can be undone in time proportional to their number.
+ * <br>Variables are stored in an open-addressing table indexed by their creation index.
+ * <br>Null values are not stored: putting null removes the variable.
+ * <br>Iteration order is unspecified.
+ * Iterators are not fail-fast: they read the table as it was when they were created if it has been resized since,
+ * and the current table otherwise.
+ * Their entries are immutable snapshots, and neither {@link Iterator#remove()} nor {@link Map.Entry#setValue(Object)} is supported.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class Bindings extends AbstractMap<Variable, Object> implements Serializable {
+	
+	private Variable[] keys;
+	
+	private Object[] values;
+	
+	private int size;
+	
+	private Variable[] trailKeys;
+	
+	private Object[] trailValues;
+	
+	private int trailSize;
+	
+	public Bindings() {
+		this.keys = new Variable[INITIAL_CAPACITY];
+		this.values = new Object[INITIAL_CAPACITY];
+		this.trailKeys = new Variable[INITIAL_CAPACITY];
+		this.trailValues = new Object[INITIAL_CAPACITY];
+	}
+	
+	/**
+	 * @return The current position in the trail, to be passed to {@link #undo(int)}
+	 */
+	public final int mark() {
+		return this.trailSize;
+	}
+	
+	/**
+	 * Reverts all the changes made since <code>mark</code> was obtained, most recent first.
+	 *
+	 * @param mark
+	 * <br>Range: <code>[0 .. this.mark()]</code>
+	 */
+	public final void undo(final int mark) {
+		if (mark < 0 || this.trailSize < mark) {
+			throw new IllegalArgumentException("Invalid mark: " + mark);
+		}
+		
+		while (mark < this.trailSize) {
+			final int i = --this.trailSize;
+			final Variable key = this.trailKeys[i];
+			final Object previousValue = this.trailValues[i];
+			
+			this.trailKeys[i] = null;
+			this.trailValues[i] = null;
+			
+			if (previousValue == null) {
+				this.delete(key);
+			} else {
+				this.store(key, previousValue);
+			}
+		}
+	}
+	
+	@Override
+	public final int size() {
+		return this.size;
+	}
+	
+	@Override
+	public final boolean containsKey(final Object key) {
+		return this.get(key) != null;
+	}
+	
+	@Override
+	public final Object get(final Object key) {
+		if (!(key instanceof Variable)) {
+			return null;
+		}
+		
+		final int slot = this.find((Variable) key);
+		
+		return slot < 0 ? null : this.values[slot];
+	}
+	
+	@Override
+	public final Object put(final Variable key, final Object value) {
+		if (value == null) {
+			return this.remove(key);
+		}
+		
+		final Object result = this.store(key, value);
+		
+		if (result != value) {
+			this.record(key, result);
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public final Object remove(final Object key) {
+		if (!(key instanceof Variable)) {
+			return null;
+		}
+		
+		final Object result = this.delete((Variable) key);
+		
+		if (result != null) {
+			this.record((Variable) key, result);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Removes all the variables; the removals are recorded in the trail.
+	 */
+	@Override
+	public final void clear() {
+		for (final Variable key : this.keys.clone()) {
+			if (key != null) {
+				this.remove(key);
+			}
+		}
+	}
+	
+	@Override
+	public final Set<Map.Entry<Variable, Object>> entrySet() {
+		return new AbstractSet<Map.Entry<Variable, Object>>() {
+			
+			@Override
+			public final int size() {
+				return Bindings.this.size();
+			}
+			
+			@Override
+			public final Iterator<Map.Entry<Variable, Object>> iterator() {
+				return new Iterator<Map.Entry<Variable, Object>>() {
+					
+					private final Variable[] keys = Bindings.this.keys;
+					
+					private final Object[] values = Bindings.this.values;
+					
+					private int next = this.advance(0);
+					
+					@Override
+					public final boolean hasNext() {
+						return this.next < this.keys.length;
+					}
+					
+					@Override
+					public final Map.Entry<Variable, Object> next() {
+						if (!this.hasNext()) {
+							throw new NoSuchElementException();
+						}
+						
+						final int slot = this.next;
+						
+						this.next = this.advance(slot + 1);
+						
+						return new SimpleImmutableEntry<>(this.keys[slot], this.values[slot]);
+					}
+					
+					private final int advance(final int start) {
+						int result = start;
+						
+						while (result < this.keys.length && this.keys[result] == null) {
+							++result;
+						}
+						
+						return result;
+					}
+					
+				};
+			}
+			
+		};
+	}
+	
+	private final void record(final Variable key, final Object previousValue) {
+		if (this.trailSize == this.trailKeys.length) {
+			this.trailKeys = Arrays.copyOf(this.trailKeys, 2 * this.trailSize);
+			this.trailValues = Arrays.copyOf(this.trailValues, 2 * this.trailSize);
+		}
+		
+		this.trailKeys[this.trailSize] = key;
+		this.trailValues[this.trailSize] = previousValue;
+		++this.trailSize;
+	}
+	
+	/**
+	 * @return The slot of <code>key</code>, or <code>-1</code>
+	 */
+	private final int find(final Variable key) {
+		final Variable[] keys = this.keys;
+		final int mask = keys.length - 1;
+		
+		for (int slot = slot(key, mask);; slot = (slot + 1) & mask) {
+			final Variable k = keys[slot];
+			
+			if (k == key) {
+				return slot;
+			}
+			
+			if (k == null) {
+				return -1;
+			}
+		}
+	}
+	
+	/**
+	 * Sets the value without recording it.
+	 *
+	 * @return The previous value
+	 */
+	private final Object store(final Variable key, final Object value) {
+		final int mask = this.keys.length - 1;
+		int slot = slot(key, mask);
+		
+		while (this.keys[slot] != null) {
+			if (this.keys[slot] == key) {
+				final Object result = this.values[slot];
+				
+				this.values[slot] = value;
+				
+				return result;
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		this.keys[slot] = key;
+		this.values[slot] = value;
+		
+		if (this.keys.length <= 2 * ++this.size) {
+			this.resize(2 * this.keys.length);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Removes the key without recording it, shifting back the following entries of its cluster.
+	 *
+	 * @return The previous value
+	 */
+	private final Object delete(final Variable key) {
+		int slot = this.find(key);
+		
+		if (slot < 0) {
+			return null;
+		}
+		
+		final Object result = this.values[slot];
+		final Variable[] keys = this.keys;
+		final Object[] values = this.values;
+		final int mask = keys.length - 1;
+		
+		for (int next = (slot + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+			final int home = slot(keys[next], mask);
+			
+			// Move the entry back unless its home lies cyclically in (slot, next]
+			if (slot <= next ? (home <= slot || next < home) : (home <= slot && next < home)) {
+				keys[slot] = keys[next];
+				values[slot] = values[next];
+				slot = next;
+			}
+		}
+		
+		keys[slot] = null;
+		values[slot] = null;
+		--this.size;
+		
+		return result;
+	}
+	
+	private final void resize(final int capacity) {
+		final Variable[] oldKeys = this.keys;
+		final Object[] oldValues = this.values;
+		
+		this.keys = new Variable[capacity];
+		this.values = new Object[capacity];
+		this.size = 0;
+		
+		for (int i = 0; i < oldKeys.length; ++i) {
+			if (oldKeys[i] != null) {
+				this.store(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+	
+	private static final long serialVersionUID = -3309458185366916164L;
+	
+	/**
+	 * {@value}.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+	
+	private static final int slot(final Variable key, final int mask) {
+		// Fibonacci hashing spreads consecutive creation indices
+		final int h = key.getIndex() * 0x9E3779B9;
+		
+		return (h ^ (h >>> 16)) & mask;
+	}
+	
+}
@@ -1,7 +1,6 @@
 package multij.rules;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -13,7 +12,7 @@ public abstract interface Predicate<T> extends Serializable, java.util.function.
 	
 	@Override
 	public default boolean test(final T object) {
-		return this.test(object, new HashMap<>());
+		return this.test(object, new Bindings());
 	}
 	
 	public abstract boolean test(T object, Map<Variable, Object> mapping);
@@ -21,11 +21,11 @@ public final class Rules<T, R> implements Rule<T, R> {
 	}
 	
 	public final R applyTo(final T input) {
-		return this.applyTo(input, new LinkedHashMap<>());
+		return this.applyTo(input, new Bindings());
 	}
 	
 	public final R applyTo(final T input, final R defaultResult) {
-		return this.applyTo(input, new LinkedHashMap<>(), defaultResult);
+		return this.applyTo(input, new Bindings(), defaultResult);
 	}
 	
 	public final R applyTo(final T input, final Map<Variable, Object> mapping) {
@@ -38,8 +38,30 @@ public final class Rules<T, R> implements Rule<T, R> {
 		return r != null ? r.get() : defaultResult;
 	}
 	
+	/**
+	 * Tries the rules in order, each one starting from the initial <code>mapping</code>.
+	 * <br>If <code>mapping</code> is a {@link Bindings}, the changes of a failed rule are undone through its trail;
+	 * otherwise, <code>mapping</code> is restored from a full copy.
+	 */
 	@Override
 	public final Result<R> apply(final T input, final Map<Variable, Object> mapping) {
+		if (mapping instanceof Bindings) {
+			final Bindings bindings = (Bindings) mapping;
+			final int mark = bindings.mark();
+			
+			for (final Rule<T, R> rule : this.getRules()) {
+				bindings.undo(mark);
+				
+				final Result<R> r = rule.apply(input, bindings);
+				
+				if (r != null) {
+					return r;
+				}
+			}
+			
+			return null;
+		}
+		
 		final Map<Variable, Object> backup = new LinkedHashMap<>(mapping);
 		
 		for (final Rule<T, R> rule : this.getRules()) {
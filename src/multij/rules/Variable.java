@@ -3,9 +3,9 @@ package multij.rules;
 import static multij.tools.Tools.cast;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -15,8 +15,18 @@ public abstract class Variable implements Predicate<Object> {
 	
 	private final String name;
 	
+	private final int index;
+	
 	protected Variable(final String name) {
 		this.name = name;
+		this.index = nextIndex.getAndIncrement();
+	}
+	
+	/**
+	 * @return The creation index of this variable, used by {@link Bindings}
+	 */
+	final int getIndex() {
+		return this.index;
 	}
 	
 	@Override
@@ -28,6 +38,8 @@ public abstract class Variable implements Predicate<Object> {
 	
 	private static final AtomicLong nextId = new AtomicLong(1L);
 	
+	private static final AtomicInteger nextIndex = new AtomicInteger();
+	
 	public static final Any var() {
 		return var(Long.toString(nextId.getAndIncrement()));
 	}
@@ -43,7 +55,7 @@ public abstract class Variable implements Predicate<Object> {
 	}
 	
 	public static final boolean match(final Object pattern, final Object target) {
-		return match(pattern, target, new HashMap<>());
+		return match(pattern, target, new Bindings());
 	}
 	
 	public static final boolean match(final Object pattern, final Object target, final Map<Variable, Object> mapping) {
@@ -2,44 +2,225 @@ package multij.tools;
 
 import static multij.tools.Tools.*;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
 
 import multij.primitivelists.IntList;
-import multij.tools.Manifold.Traversor.Limit;
+
 
 /**
+ * Darts are stored in chunks that are shared between copies and snapshots, and copied on write.
+ * <br>{@link #copy()} and {@link #snapshot()} only duplicate the chunk tables,
+ * and each chunk is duplicated the first time it is modified afterwards.
+ * 
  * @author codistmonk (creation 2013-04-06)
  */
 public final class Manifold implements Serializable {
 	
-	private final IntList nexts;
+	private int[][] chunks;
+	
+	private long[] chunkOwners;
+	
+	private transient long ownerId;
+	
+	private int dartCount;
+	
+	/**
+	 * Not final only so that {@link #readObject(ObjectInputStream)} can read it from the stream fields.
+	 */
+	private boolean readOnly;
+	
+	/**
+	 * Not final only so that {@link #readObject(ObjectInputStream)} can read it from the stream fields.
+	 */
+	private List<Attribute> attributes;
 	
 	public Manifold() {
-		this(new IntList());
+		this(new int[0][], new long[0], 0, false);
 	}
 	
-	private Manifold(final IntList nexts) {
-		this.nexts = nexts;
+	private Manifold(final int[][] chunks, final long[] chunkOwners, final int dartCount, final boolean readOnly) {
+		this.chunks = chunks;
+		this.chunkOwners = chunkOwners;
+		this.ownerId = nextOwnerId.incrementAndGet();
+		this.dartCount = dartCount;
+		this.readOnly = readOnly;
+		this.attributes = new ArrayList<>();
 	}
 	
+	/**
+	 * The chunks of this manifold are shared with the result until they are modified in either one.
+	 * 
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
 	public final Manifold copy() {
-		return new Manifold(new IntList(this.nexts.toArray()));
+		this.shareChunks();
+		
+		final Manifold result = new Manifold(this.chunks.clone(), this.chunkOwners.clone(), this.dartCount, false);
+		
+		for (final Attribute attribute : this.attributes) {
+			result.attributes.add(attribute.copy(result));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns an immutable view of the current topology (attributes are not included)
+	 * that shares its chunks with this manifold.
+	 * <br>This manifold can keep being modified by one thread while other threads traverse the snapshot,
+	 * provided that the snapshot is safely published to them (eg through a volatile field or a concurrent collection).
+	 * 
+	 * @return
+	 * <br>Not null
+	 * <br>Maybe <code>this</code> if this manifold is already read-only
+	 */
+	public final Manifold snapshot() {
+		if (this.isReadOnly()) {
+			return this;
+		}
+		
+		this.shareChunks();
+		
+		return new Manifold(this.chunks.clone(), this.chunkOwners.clone(), this.dartCount, true);
+	}
+	
+	/**
+	 * @return <code>true</code> if this manifold is a snapshot, in which case all modifications throw an {@link IllegalStateException}
+	 */
+	public final boolean isReadOnly() {
+		return this.readOnly;
 	}
 	
 	public final void clear() {
-		this.nexts.clear();
+		this.checkWritable();
+		
+		this.chunks = new int[0][];
+		this.chunkOwners = new long[0];
+		this.dartCount = 0;
+		
+		this.resizeAttributes();
 	}
 	
 	public final int newEdge() {
+		return this.newEdges(1);
+	}
+	
+	/**
+	 * Reserves <code>edgeCount</code> new edges in one resize; their darts are uninitialized (their next is <code>-1</code>).
+	 * 
+	 * @param edgeCount
+	 * <br>Range: <code>[0 .. (Integer.MAX_VALUE - this.getDartCount()) / 2]</code>
+	 * @return The first new dart
+	 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+	 */
+	public final int newEdges(final int edgeCount) {
+		this.checkWritable();
+		
 		final int result = this.getDartCount();
+		final long newDartCount = result + 2L * edgeCount;
+		
+		if (edgeCount < 0 || Integer.MAX_VALUE < newDartCount) {
+			throw new IllegalArgumentException("Invalid edge count: " + edgeCount);
+		}
+		
+		if (newDartCount == result) {
+			return result;
+		}
 		
-		this.nexts.add(-1);
-		this.nexts.add(-1);
+		final int chunkCount = (int) ((newDartCount - 1L) >> CHUNK_SHIFT) + 1;
+		
+		if (this.chunks.length < chunkCount) {
+			final int newChunkCount = Math.max(chunkCount, 2 * this.chunks.length);
+			
+			this.chunks = Arrays.copyOf(this.chunks, newChunkCount);
+			this.chunkOwners = Arrays.copyOf(this.chunkOwners, newChunkCount);
+		}
+		
+		this.dartCount = (int) newDartCount;
+		
+		for (int dart = result; dart < this.dartCount;) {
+			final int end = (int) Math.min(this.dartCount, ((long) (dart >> CHUNK_SHIFT) + 1L) << CHUNK_SHIFT);
+			
+			Arrays.fill(this.getWritableChunk(end - 1), dart & CHUNK_MASK, ((end - 1) & CHUNK_MASK) + 1, -1);
+			
+			dart = end;
+		}
+		
+		this.resizeAttributes();
 		
 		return result;
 	}
 	
+	/**
+	 * @param cellType
+	 * <br>Not null
+	 * @param dimension
+	 * <br>Range: <code>[1 .. Integer.MAX_VALUE]</code>
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
+	public final IntAttribute newIntAttribute(final Traversor cellType, final int dimension) {
+		return this.addAttribute(new IntAttribute(this, cellType, dimension));
+	}
+	
+	/**
+	 * @param cellType
+	 * <br>Not null
+	 * @param dimension
+	 * <br>Range: <code>[1 .. Integer.MAX_VALUE]</code>
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 */
+	public final DoubleAttribute newDoubleAttribute(final Traversor cellType, final int dimension) {
+		return this.addAttribute(new DoubleAttribute(this, cellType, dimension));
+	}
+	
+	/**
+	 * @param attribute
+	 * <br>Maybe null
+	 * @return <code>true</code> if <code>attribute</code> was attached to this manifold
+	 */
+	public final boolean removeAttribute(final Attribute attribute) {
+		return this.attributes.remove(attribute);
+	}
+	
+	/**
+	 * @return
+	 * <br>Not null
+	 * <br>Shared
+	 * <br>Unmodifiable
+	 */
+	public final List<Attribute> getAttributes() {
+		return Collections.unmodifiableList(this.attributes);
+	}
+	
+	private final <A extends Attribute> A addAttribute(final A attribute) {
+		this.attributes.add(attribute);
+		
+		return attribute;
+	}
+	
+	private final void resizeAttributes() {
+		for (final Attribute attribute : this.attributes) {
+			attribute.resize();
+		}
+	}
+	
 	public final int getPrevious(final int dart, final int iterations) {
 		int result = dart;
 		
@@ -51,7 +232,7 @@ public final class Manifold implements Serializable {
 	}
 	
 	public final int getPrevious(final int dart) {
-		final Limit limit = new Limit(this);
+		int remaining = this.getDartCount();
 		int result;
 		int next = dart;
 		
@@ -63,14 +244,18 @@ public final class Manifold implements Serializable {
 				return next;
 			}
 			
-			limit.check();
+			if (CHECK_LOOPS) {
+				checkLoop(--remaining);
+			}
 		} while (next != dart);
 		
 		return result;
 	}
 	
 	public final int getNext(final int dart) {
-		return this.nexts.get(dart);
+		this.checkDart(dart);
+		
+		return this.chunks[dart >> CHUNK_SHIFT][dart & CHUNK_MASK];
 	}
 	
 	public final int getNext(final int dart, final int iterations) {
@@ -98,7 +283,9 @@ public final class Manifold implements Serializable {
 			debugPrint(dart, "->", next);
 		}
 		
-		this.nexts.set(dart, next);
+		this.checkDart(dart);
+		
+		this.getWritableChunk(dart)[dart & CHUNK_MASK] = next;
 	}
 	
 	public final int getOpposite(final int dart) {
@@ -106,7 +293,7 @@ public final class Manifold implements Serializable {
 	}
 	
 	public final int getDartCount() {
-		return this.nexts.size();
+		return this.dartCount;
 	}
 	
 	public final int getEdgeCount() {
@@ -142,6 +329,10 @@ public final class Manifold implements Serializable {
 		this.setNext(previousOfDartOpposite, newDartOpposite);
 		this.setNext(newDartOpposite, dartOpposite);
 		
+		for (final Attribute attribute : this.attributes) {
+			attribute.edgeCut(dart, newDart);
+		}
+		
 		assert this.isValid();
 		
 		return newDart;
@@ -192,6 +383,147 @@ public final class Manifold implements Serializable {
 		this.setNext(previous2, resultOpposite);
 		this.setNext(resultOpposite, nextOfResultOpposite);
 		
+		for (final Attribute attribute : this.attributes) {
+			attribute.faceCut(previous1, previous2, result);
+		}
+		
+		assert this.isValid();
+		
+		return result;
+	}
+	
+	/**
+	 * Cuts all the edges of <code>darts</code> in a few linear passes, as if {@link #cutEdge(int)} had been called
+	 * on each element in order.
+	 * <br>The new darts are reserved in one resize, then each old dart is rewired independently of the others,
+	 * which allows the rewiring to run on several threads.
+	 * 
+	 * @param darts
+	 * <br>Not null
+	 * <br>Must belong to distinct edges
+	 * @param parallel
+	 * <br>Whether the rewiring is executed on multiple threads
+	 * @return The new dart of <code>darts.get(0)</code>; the new dart of <code>darts.get(i)</code> is <code>result + 2 * i</code>
+	 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+	 */
+	public final int cutEdges(final IntList darts, final boolean parallel) {
+		final int oldDartCount = this.getDartCount();
+		final int cutCount = darts.size();
+		// cutIndices[dart] - 1 is the index of dart in darts, or -1
+		final int[] cutIndices = new int[oldDartCount];
+		
+		for (int i = 0; i < cutCount; ++i) {
+			final int dart = darts.get(i);
+			
+			this.checkDart(dart);
+			
+			if (cutIndices[dart] != 0 || cutIndices[opposite(dart)] != 0) {
+				throw new IllegalArgumentException("Edge cut twice: " + dart);
+			}
+			
+			cutIndices[dart] = i + 1;
+		}
+		
+		final int result = this.newEdges(cutCount);
+		
+		this.makeChunksWritable();
+		
+		/*
+		 * Each old arrow dart->next becomes dart->newDart->next if dart is cut,
+		 * and ends at newDart' instead of next if opposite(next) is cut;
+		 * only the iteration of dart reads or writes the next of dart.
+		 */
+		forEachIndex(oldDartCount, parallel, dart -> {
+			final int cutIndex = cutIndices[dart] - 1;
+			final int next = this.chunks[dart >> CHUNK_SHIFT][dart & CHUNK_MASK];
+			final int nextCutIndex = 0 <= next ? cutIndices[opposite(next)] - 1 : -1;
+			
+			if (cutIndex < 0 && nextCutIndex < 0) {
+				return;
+			}
+			
+			final int newNext = nextCutIndex < 0 ? next : opposite(result + 2 * nextCutIndex);
+			
+			if (cutIndex < 0) {
+				this.setNextInPlace(dart, newNext);
+			} else {
+				final int newDart = result + 2 * cutIndex;
+				
+				this.setNextInPlace(dart, newDart);
+				this.setNextInPlace(newDart, newNext);
+				this.setNextInPlace(opposite(newDart), opposite(dart));
+			}
+		});
+		
+		if (!this.attributes.isEmpty()) {
+			forEachIndex(cutCount, parallel, i -> {
+				for (final Attribute attribute : this.attributes) {
+					attribute.edgeCut(darts.get(i), result + 2 * i);
+				}
+			});
+		}
+		
+		assert this.isValid();
+		
+		return result;
+	}
+	
+	/**
+	 * Cuts faces in one pass, as if {@link #cutFace(int, int)} had been called on each pair in order.
+	 * <br>Since every previous dart is distinct, each cut only touches its own darts,
+	 * which allows the cuts to run on several threads.
+	 * 
+	 * @param previousPairs
+	 * <br>Not null
+	 * <br><code>previous1, previous2</code> pairs
+	 * <br>Must contain distinct darts
+	 * @param parallel
+	 * <br>Whether the cuts are executed on multiple threads
+	 * @return The new dart of the first pair; the new dart of pair <code>i</code> is <code>result + 2 * i</code>
+	 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+	 */
+	public final int cutFaces(final IntList previousPairs, final boolean parallel) {
+		final int n = previousPairs.size();
+		
+		if ((n & 1) != 0) {
+			throw new IllegalArgumentException("Odd number of darts: " + n);
+		}
+		
+		final BitSet cut = new BitSet(this.getDartCount());
+		
+		for (int i = 0; i < n; ++i) {
+			final int dart = previousPairs.get(i);
+			
+			this.checkDart(dart);
+			
+			if (cut.get(dart)) {
+				throw new IllegalArgumentException("Dart used twice: " + dart);
+			}
+			
+			cut.set(dart);
+		}
+		
+		final int result = this.newEdges(n / 2);
+		
+		this.makeChunksWritable();
+		
+		forEachIndex(n / 2, parallel, i -> {
+			final int previous1 = previousPairs.get(2 * i);
+			final int previous2 = previousPairs.get(2 * i + 1);
+			final int newDart = result + 2 * i;
+			final int nextOfNewDartOpposite = this.chunks[previous1 >> CHUNK_SHIFT][previous1 & CHUNK_MASK];
+			final int newDartNext = this.chunks[previous2 >> CHUNK_SHIFT][previous2 & CHUNK_MASK];
+			
+			this.setNextInPlace(previous1, newDart);
+			this.setNextInPlace(newDart, newDartNext);
+			this.setNextInPlace(previous2, opposite(newDart));
+			this.setNextInPlace(opposite(newDart), nextOfNewDartOpposite);
+			
+			for (final Attribute attribute : this.attributes) {
+				attribute.faceCut(previous1, previous2, newDart);
+			}
+		});
+		
 		assert this.isValid();
 		
 		return result;
@@ -205,28 +537,64 @@ public final class Manifold implements Serializable {
 		traversor.traverse(this, dart, processor);
 	}
 	
+	/**
+	 * Checks in linear time that the nexts form a permutation of the darts.
+	 */
 	public final boolean isValid() {
 		final int n = this.getDartCount();
+		final BitSet hasPrevious = new BitSet(n);
 		
 		for (int dart = 0; dart < n; ++dart) {
-			final int next = this.nexts.get(dart);
+			final int next = this.getNext(dart);
 			
 			if (next < 0 || n <= next) {
 				debugError("dart:", dart, "n:", n, "next:", next);
 				return false;
 			}
 			
-			final int previousOfNext = this.getPrevious(next);
-			
-			if (dart != previousOfNext) {
-				debugError("dart:", dart, "n:", n, "next:", next, "next.previous:", previousOfNext);
+			if (hasPrevious.get(next)) {
+				debugError("dart:", dart, "n:", n, "next:", next, "next already has a previous");
 				return false;
 			}
+			
+			hasPrevious.set(next);
 		}
 		
 		return true;
 	}
 	
+	/**
+	 * Copies the nexts of <code>[firstDart .. firstDart + length - 1]</code> into <code>destination</code>.
+	 */
+	final void getNexts(final int firstDart, final int[] destination, final int offset, final int length) {
+		for (int i = 0; i < length;) {
+			final int dart = firstDart + i;
+			final int n = Math.min(length - i, CHUNK_SIZE - (dart & CHUNK_MASK));
+			
+			this.checkDart(dart + n - 1);
+			
+			System.arraycopy(this.chunks[dart >> CHUNK_SHIFT], dart & CHUNK_MASK, destination, offset + i, n);
+			
+			i += n;
+		}
+	}
+	
+	/**
+	 * Copies <code>source</code> into the nexts of <code>[firstDart .. firstDart + length - 1]</code>.
+	 */
+	final void setNexts(final int firstDart, final int[] source, final int offset, final int length) {
+		for (int i = 0; i < length;) {
+			final int dart = firstDart + i;
+			final int n = Math.min(length - i, CHUNK_SIZE - (dart & CHUNK_MASK));
+			
+			this.checkDart(dart + n - 1);
+			
+			System.arraycopy(source, offset + i, this.getWritableChunk(dart + n - 1), dart & CHUNK_MASK, n);
+			
+			i += n;
+		}
+	}
+	
 	public final void initializeCycle(final int... darts) {
 		final int n = darts.length;
 		
@@ -245,20 +613,307 @@ public final class Manifold implements Serializable {
 	
 	@Override
 	public final String toString() {
-		return this.nexts.toString();
+		final StringBuilder resultBuilder = new StringBuilder();
+		final int n = this.getDartCount();
+		
+		resultBuilder.append('[');
+		
+		for (int dart = 0; dart < n; ++dart) {
+			if (0 < dart) {
+				resultBuilder.append(' ');
+			}
+			
+			resultBuilder.append(this.getNext(dart));
+		}
+		
+		resultBuilder.append(']');
+		
+		return resultBuilder.toString();
+	}
+	
+	/**
+	 * Makes all current chunks appear foreign to this manifold, so that they are copied before being modified.
+	 */
+	private final void shareChunks() {
+		if (!this.isReadOnly()) {
+			this.ownerId = nextOwnerId.incrementAndGet();
+		}
+	}
+	
+	private final void checkWritable() {
+		if (this.isReadOnly()) {
+			throw new IllegalStateException("Read-only snapshot");
+		}
+	}
+	
+	private final void checkDart(final int dart) {
+		if (dart < 0 || this.getDartCount() <= dart) {
+			throw new ArrayIndexOutOfBoundsException(dart);
+		}
+	}
+	
+	/**
+	 * Makes every chunk owned by this manifold and large enough for all its darts,
+	 * so that nexts can then be written directly (possibly from several threads) with {@link #setNextInPlace(int, int)}.
+	 */
+	private final void makeChunksWritable() {
+		for (int dart = this.getDartCount() - 1; 0 <= dart; dart = (dart & ~CHUNK_MASK) - 1) {
+			this.getWritableChunk(dart);
+		}
+	}
+	
+	/**
+	 * Must be preceded by {@link #makeChunksWritable()}.
+	 */
+	private final void setNextInPlace(final int dart, final int next) {
+		this.chunks[dart >> CHUNK_SHIFT][dart & CHUNK_MASK] = next;
+	}
+	
+	/**
+	 * @param dart
+	 * <br>Range: <code>[0 .. this.getDartCount() - 1]</code>
+	 * @return The chunk containing <code>dart</code>, owned by this manifold and large enough to contain <code>dart</code>
+	 * <br>Not null
+	 */
+	private final int[] getWritableChunk(final int dart) {
+		this.checkWritable();
+		
+		final int chunkIndex = dart >> CHUNK_SHIFT;
+		final int offset = dart & CHUNK_MASK;
+		final int[] chunk = this.chunks[chunkIndex];
+		
+		if (chunk != null && offset < chunk.length && this.chunkOwners[chunkIndex] == this.ownerId) {
+			return chunk;
+		}
+		
+		final int oldLength = chunk == null ? 0 : chunk.length;
+		int newLength = Math.max(MINIMUM_CHUNK_LENGTH, oldLength);
+		
+		while (newLength <= offset) {
+			newLength *= 2;
+		}
+		
+		final int[] result = chunk == null ? new int[newLength] : Arrays.copyOf(chunk, newLength);
+		
+		this.chunks[chunkIndex] = result;
+		this.chunkOwners[chunkIndex] = this.ownerId;
+		
+		return result;
+	}
+	
+	/**
+	 * Also reads the layout written before the chunked storage, which only contained an {@link IntList} of nexts.
+	 */
+	@SuppressWarnings("unchecked")
+	private final void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+		final ObjectInputStream.GetField fields = input.readFields();
+		
+		// Chunks may have been deserialized together with other copies
+		this.ownerId = nextOwnerId.incrementAndGet();
+		
+		if (fields.getObjectStreamClass().getField("nexts") != null) {
+			final int[] nexts = ((IntList) fields.get("nexts", null)).toArray();
+			
+			this.chunks = new int[0][];
+			this.chunkOwners = new long[0];
+			this.attributes = new ArrayList<>();
+			this.newEdges(nexts.length / 2);
+			this.setNexts(0, nexts, 0, nexts.length);
+		} else {
+			this.chunks = (int[][]) fields.get("chunks", null);
+			this.chunkOwners = (long[]) fields.get("chunkOwners", null);
+			this.dartCount = fields.get("dartCount", 0);
+			this.readOnly = fields.get("readOnly", false);
+			this.attributes = (List<Attribute>) fields.get("attributes", null);
+		}
 	}
 	
 	/**
 	 * {@value}.
+	 * <br>Unchanged by the chunked storage, whose streams are still readable (see {@link #readObject(ObjectInputStream)}).
 	 */
 	private static final long serialVersionUID = -2538040622973580305L;
 	
 	private static final boolean DEBUG = false;
 	
+	/**
+	 * {@value}.
+	 */
+	private static final int CHUNK_SHIFT = 12;
+	
+	/**
+	 * {@value}.
+	 */
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	
+	/**
+	 * {@value}.
+	 */
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	
+	/**
+	 * {@value}.
+	 */
+	private static final int MINIMUM_CHUNK_LENGTH = 16;
+	
+	private static final AtomicLong nextOwnerId = new AtomicLong();
+	
+	/**
+	 * When <code>true</code>, orbit walks throw an {@link IllegalStateException} instead of looping forever on invalid manifolds.
+	 * <br>Enabled when assertions are enabled or when the system property <code>multij.tools.Manifold.checkLoops</code> is <code>true</code>.
+	 */
+	public static final boolean CHECK_LOOPS = Boolean.getBoolean(Manifold.class.getName() + ".checkLoops") || assertionsEnabled();
+	
 	public static final int opposite(final int dart) {
 		return dart ^ 1;
 	}
 	
+	/**
+	 * @param remaining
+	 * <br>Range: any int
+	 * @throws IllegalStateException if <code>remaining &lt; 0</code>
+	 */
+	static final void checkLoop(final int remaining) {
+		if (remaining < 0) {
+			throw new IllegalStateException("Infinite loop detected");
+		}
+	}
+	
+	@SuppressWarnings("all")
+	private static final boolean assertionsEnabled() {
+		boolean result = false;
+		
+		assert result = true;
+		
+		return result;
+	}
+	
+	private static final void forEachIndex(final int n, final boolean parallel, final IntConsumer action) {
+		if (parallel) {
+			IntStream.range(0, n).parallel().forEach(action);
+		} else {
+			for (int i = 0; i < n; ++i) {
+				action.accept(i);
+			}
+		}
+	}
+	
+	/**
+	 * Reusable iterator over the darts of an orbit.
+	 * <br>Once created, a cursor can be restarted any number of times without allocating:
+	 * <pre>
+	 * for (cursor.start(FACE, dart); cursor.hasNext();) {
+	 *     final int d = cursor.next();
+	 *     ...
+	 * }
+	 * </pre>
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static final class Cursor implements Serializable {
+		
+		private final Manifold topology;
+		
+		private Traversor traversor;
+		
+		private int first;
+		
+		private int next;
+		
+		private int remaining;
+		
+		/**
+		 * @param topology
+		 * <br>Not null
+		 * <br>Shared
+		 */
+		public Cursor(final Manifold topology) {
+			this.topology = topology;
+			this.next = -1;
+		}
+		
+		public final Manifold getTopology() {
+			return this.topology;
+		}
+		
+		/**
+		 * @param traversor
+		 * <br>Not null
+		 * @param dart
+		 * <br>Range: <code>[0 .. this.getTopology().getDartCount() - 1]</code>
+		 * @return <code>this</code>
+		 * <br>Not null
+		 */
+		public final Cursor start(final Traversor traversor, final int dart) {
+			this.traversor = traversor;
+			this.first = dart;
+			this.next = dart;
+			this.remaining = this.getTopology().getDartCount();
+			
+			return this;
+		}
+		
+		/**
+		 * @return <code>false</code> once the orbit has been completely traversed
+		 */
+		public final boolean hasNext() {
+			return 0 <= this.next;
+		}
+		
+		/**
+		 * @return
+		 * <br>Range: <code>[0 .. this.getTopology().getDartCount() - 1]</code>
+		 */
+		public final int next() {
+			final int result = this.next;
+			final int d = this.traversor.getNextDart(this.getTopology(), result);
+			
+			this.next = d == this.first ? -1 : d;
+			
+			if (CHECK_LOOPS) {
+				checkLoop(--this.remaining);
+			}
+			
+			return result;
+		}
+		
+		/**
+		 * Consumes the remaining darts of the orbit.
+		 * 
+		 * @return
+		 * <br>Range: <code>[0 .. this.getTopology().getDartCount()]</code>
+		 */
+		public final int count() {
+			int result = 0;
+			
+			while (this.hasNext()) {
+				this.next();
+				++result;
+			}
+			
+			return result;
+		}
+		
+		/**
+		 * Consumes the remaining darts of the orbit.
+		 * 
+		 * @param function
+		 * <br>Not null
+		 */
+		public final double sum(final IntToDoubleFunction function) {
+			double result = 0.0;
+			
+			while (this.hasNext()) {
+				result += function.applyAsDouble(this.next());
+			}
+			
+			return result;
+		}
+		
+		private static final long serialVersionUID = 2497838315702867961L;
+		
+	}
+	
 	/**
 	 * @author codistmonk (creation 2013-04-06)
 	 */
@@ -268,6 +923,366 @@ public final class Manifold implements Serializable {
 		
 	}
 	
+	/**
+	 * Primitive column storing <code>dimension</code> components per cell.
+	 * <br>Values are stored in a flat array indexed by {@link #getOffset(int)}:
+	 * one slot per dart for {@link Traversor#DART}, {@link Traversor#FACE} and {@link Traversor#VERTEX},
+	 * and one slot per edge for {@link Traversor#EDGE}.
+	 * <br>Face and vertex values are replicated on every dart of the cell by the setters,
+	 * so that reading a cell value from any of its darts is a single array access.
+	 * <br>Columns grow with {@link Manifold#newEdge()}, and {@link Manifold#cutEdge(int)} and {@link Manifold#cutFace(int, int)}
+	 * fill the new slots: the new vertex of a cut edge is interpolated between its neighbors,
+	 * and the other new cells duplicate the values of the cells they were cut from.
+	 * <br>Columns are only kept in sync by these operations, not by {@link Manifold#setNext(int, int)}.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static abstract class Attribute implements Serializable {
+		
+		private final Manifold manifold;
+		
+		private final Traversor cellType;
+		
+		private final int dimension;
+		
+		private int slotCount;
+		
+		protected Attribute(final Manifold manifold, final Traversor cellType, final int dimension) {
+			if (dimension < 1) {
+				throw new IllegalArgumentException("Invalid dimension: " + dimension);
+			}
+			
+			this.manifold = manifold;
+			this.cellType = cellType;
+			this.dimension = dimension;
+		}
+		
+		public final Manifold getManifold() {
+			return this.manifold;
+		}
+		
+		public final Traversor getCellType() {
+			return this.cellType;
+		}
+		
+		public final int getDimension() {
+			return this.dimension;
+		}
+		
+		/**
+		 * @return
+		 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+		 */
+		public final int getSlotCount() {
+			return this.slotCount;
+		}
+		
+		/**
+		 * @param dart
+		 * <br>Range: <code>[0 .. this.getManifold().getDartCount() - 1]</code>
+		 * @return
+		 * <br>Range: <code>[0 .. this.getSlotCount() - 1]</code>
+		 */
+		public final int getSlot(final int dart) {
+			return this.getCellType() == Traversor.EDGE ? dart >> 1 : dart;
+		}
+		
+		/**
+		 * @param dart
+		 * <br>Range: <code>[0 .. this.getManifold().getDartCount() - 1]</code>
+		 * @return Index of the first component of the cell containing <code>dart</code> in the array of values
+		 * <br>Range: <code>[0 .. this.getSlotCount() * this.getDimension() - 1]</code>
+		 */
+		public final int getOffset(final int dart) {
+			return this.getSlot(dart) * this.getDimension();
+		}
+		
+		/**
+		 * @param dart
+		 * <br>Range: <code>[0 .. this.getManifold().getDartCount() - 1]</code>
+		 * @return The next dart in the cell of <code>dart</code> whose slot must hold the same value,
+		 * or a negative value if the cell is not closed
+		 * <br>Range: <code>[-1 .. this.getManifold().getDartCount() - 1]</code>
+		 */
+		protected final int getNextSharingDart(final int dart) {
+			return this.getCellType().getNextDart(this.getManifold(), dart);
+		}
+		
+		/**
+		 * @param oldSlotCount
+		 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+		 * @param newSlotCount
+		 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+		 */
+		protected abstract void resize(int oldSlotCount, int newSlotCount);
+		
+		protected abstract void copySlot(int sourceSlot, int targetSlot);
+		
+		/**
+		 * Sets the value of <code>targetSlot</code> to a value between those of <code>sourceSlot1</code> and <code>sourceSlot2</code>.
+		 */
+		protected abstract void interpolateSlots(int sourceSlot1, int sourceSlot2, int targetSlot);
+		
+		protected abstract Attribute copy(Manifold manifold);
+		
+		final void resize() {
+			final int newSlotCount = this.getCellType() == Traversor.EDGE ?
+					this.getManifold().getEdgeCount() : this.getManifold().getDartCount();
+			
+			this.resize(this.slotCount, newSlotCount);
+			
+			this.slotCount = newSlotCount;
+		}
+		
+		/**
+		 * Called after <code>this.getManifold().cutEdge(dart)</code> returned <code>newDart</code>.
+		 */
+		final void edgeCut(final int dart, final int newDart) {
+			final int dartOpposite = opposite(dart);
+			final int newDartOpposite = opposite(newDart);
+			
+			switch (this.getCellType()) {
+			case DART:
+			case FACE:
+				this.copySlot(dart, newDart);
+				this.copySlot(dartOpposite, newDartOpposite);
+				break;
+			case EDGE:
+				this.copySlot(this.getSlot(dart), this.getSlot(newDart));
+				break;
+			case VERTEX:
+				// dartOpposite now starts at the new vertex and newDartOpposite at the old end of dart
+				this.copySlot(dartOpposite, newDartOpposite);
+				this.interpolateSlots(dart, newDartOpposite, newDart);
+				this.copySlot(newDart, dartOpposite);
+				break;
+			}
+		}
+		
+		/**
+		 * Called after <code>this.getManifold().cutFace(previous1, previous2)</code> returned <code>newDart</code>.
+		 */
+		final void faceCut(final int previous1, final int previous2, final int newDart) {
+			final int newDartOpposite = opposite(newDart);
+			
+			switch (this.getCellType()) {
+			case FACE:
+				this.copySlot(previous1, newDart);
+				this.copySlot(previous2, newDartOpposite);
+				break;
+			case VERTEX:
+				this.copySlot(this.getManifold().getNext(newDartOpposite), newDart);
+				this.copySlot(this.getManifold().getNext(newDart), newDartOpposite);
+				break;
+			default:
+				break;
+			}
+		}
+		
+		/**
+		 * @param oldCapacity
+		 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+		 * @param requiredCapacity
+		 * <br>Range: <code>[0 .. Integer.MAX_VALUE]</code>
+		 * @return
+		 * <br>Range: <code>[requiredCapacity .. Integer.MAX_VALUE]</code>
+		 */
+		protected static final int newCapacity(final int oldCapacity, final int requiredCapacity) {
+			return (int) Math.min(Integer.MAX_VALUE, Math.max(requiredCapacity, 2L * oldCapacity));
+		}
+		
+		private static final long serialVersionUID = -1326407851567203316L;
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static final class IntAttribute extends Attribute {
+		
+		private int[] values;
+		
+		IntAttribute(final Manifold manifold, final Traversor cellType, final int dimension) {
+			super(manifold, cellType, dimension);
+			this.values = new int[0];
+			
+			this.resize();
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 * <br>Shared
+		 * <br>Reallocated when the manifold grows
+		 */
+		public final int[] getValues() {
+			return this.values;
+		}
+		
+		public final int get(final int dart) {
+			return this.get(dart, 0);
+		}
+		
+		public final int get(final int dart, final int component) {
+			return this.values[this.getOffset(dart) + component];
+		}
+		
+		public final IntAttribute set(final int dart, final int value) {
+			return this.set(dart, 0, value);
+		}
+		
+		/**
+		 * Sets the value of the cell containing <code>dart</code>;
+		 * for faces and vertices, the value is replicated on every dart of the cell.
+		 */
+		public final IntAttribute set(final int dart, final int component, final int value) {
+			int d = dart;
+			
+			do {
+				this.values[this.getOffset(d) + component] = value;
+				d = this.getNextSharingDart(d);
+			} while (0 <= d && d != dart);
+			
+			return this;
+		}
+		
+		@Override
+		protected final void resize(final int oldSlotCount, final int newSlotCount) {
+			final int n = this.getDimension();
+			
+			if (this.values.length < newSlotCount * n) {
+				this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, newSlotCount * n));
+			}
+			
+			if (oldSlotCount < newSlotCount) {
+				Arrays.fill(this.values, oldSlotCount * n, newSlotCount * n, 0);
+			}
+		}
+		
+		@Override
+		protected final void copySlot(final int sourceSlot, final int targetSlot) {
+			final int n = this.getDimension();
+			
+			System.arraycopy(this.values, sourceSlot * n, this.values, targetSlot * n, n);
+		}
+		
+		/**
+		 * Integer values are not interpolated: <code>sourceSlot1</code> is copied.
+		 */
+		@Override
+		protected final void interpolateSlots(final int sourceSlot1, final int sourceSlot2, final int targetSlot) {
+			this.copySlot(sourceSlot1, targetSlot);
+		}
+		
+		@Override
+		protected final IntAttribute copy(final Manifold manifold) {
+			final IntAttribute result = new IntAttribute(manifold, this.getCellType(), this.getDimension());
+			
+			System.arraycopy(this.values, 0, result.values, 0, result.values.length);
+			
+			return result;
+		}
+		
+		private static final long serialVersionUID = 5012964441893787313L;
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	public static final class DoubleAttribute extends Attribute {
+		
+		private double[] values;
+		
+		DoubleAttribute(final Manifold manifold, final Traversor cellType, final int dimension) {
+			super(manifold, cellType, dimension);
+			this.values = new double[0];
+			
+			this.resize();
+		}
+		
+		/**
+		 * @return
+		 * <br>Not null
+		 * <br>Shared
+		 * <br>Reallocated when the manifold grows
+		 */
+		public final double[] getValues() {
+			return this.values;
+		}
+		
+		public final double get(final int dart) {
+			return this.get(dart, 0);
+		}
+		
+		public final double get(final int dart, final int component) {
+			return this.values[this.getOffset(dart) + component];
+		}
+		
+		public final DoubleAttribute set(final int dart, final double value) {
+			return this.set(dart, 0, value);
+		}
+		
+		/**
+		 * Sets the value of the cell containing <code>dart</code>;
+		 * for faces and vertices, the value is replicated on every dart of the cell.
+		 */
+		public final DoubleAttribute set(final int dart, final int component, final double value) {
+			int d = dart;
+			
+			do {
+				this.values[this.getOffset(d) + component] = value;
+				d = this.getNextSharingDart(d);
+			} while (0 <= d && d != dart);
+			
+			return this;
+		}
+		
+		@Override
+		protected final void resize(final int oldSlotCount, final int newSlotCount) {
+			final int n = this.getDimension();
+			
+			if (this.values.length < newSlotCount * n) {
+				this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, newSlotCount * n));
+			}
+			
+			if (oldSlotCount < newSlotCount) {
+				Arrays.fill(this.values, oldSlotCount * n, newSlotCount * n, 0.0);
+			}
+		}
+		
+		@Override
+		protected final void copySlot(final int sourceSlot, final int targetSlot) {
+			final int n = this.getDimension();
+			
+			System.arraycopy(this.values, sourceSlot * n, this.values, targetSlot * n, n);
+		}
+		
+		/**
+		 * Linear interpolation at midpoint.
+		 */
+		@Override
+		protected final void interpolateSlots(final int sourceSlot1, final int sourceSlot2, final int targetSlot) {
+			final int n = this.getDimension();
+			
+			for (int i = 0; i < n; ++i) {
+				this.values[targetSlot * n + i] = (this.values[sourceSlot1 * n + i] + this.values[sourceSlot2 * n + i]) / 2.0;
+			}
+		}
+		
+		@Override
+		protected final DoubleAttribute copy(final Manifold manifold) {
+			final DoubleAttribute result = new DoubleAttribute(manifold, this.getCellType(), this.getDimension());
+			
+			System.arraycopy(this.values, 0, result.values, 0, result.values.length);
+			
+			return result;
+		}
+		
+		private static final long serialVersionUID = -6069340733516893626L;
+		
+	}
+	
 	/**
 	 * @author codistmonk (creation 2013-04-06)
 	 */
@@ -394,37 +1409,75 @@ public final class Manifold implements Serializable {
 		};
 		
 		public final int countDarts(final Manifold topology, final int dart) {
-			final int[] result = { 0 };
+			int remaining = topology.getDartCount();
+			int result = 1;
 			
-			topology.forEachDartIn(this, dart, new DartProcessor() {
+			for (int d = this.getNextDart(topology, dart); d != dart; d = this.getNextDart(topology, d)) {
+				++result;
 				
-				@Override
-				public final void process(final int dart, final int index) {
-					++result[0];
+				if (CHECK_LOOPS) {
+					checkLoop(--remaining);
 				}
-				
-				private static final long serialVersionUID = 4377255397062988188L;
-				
-			});
+			}
 			
-			return result[0];
+			return result;
 		}
 		
-		public final int count(final Manifold topology) {
-			final int[] result = { 0 };
+		/**
+		 * @param topology
+		 * <br>Not null
+		 * @param dart
+		 * <br>Range: <code>[0 .. topology.getDartCount() - 1]</code>
+		 * @param function
+		 * <br>Not null
+		 * @return The sum of <code>function</code> over the orbit of <code>dart</code>
+		 */
+		public final double sum(final Manifold topology, final int dart, final IntToDoubleFunction function) {
+			int remaining = topology.getDartCount();
+			double result = function.applyAsDouble(dart);
 			
-			this.traverse(topology, new DartProcessor() {
+			for (int d = this.getNextDart(topology, dart); d != dart; d = this.getNextDart(topology, d)) {
+				result += function.applyAsDouble(d);
 				
-				@Override
-				public final void process(final int dart, final int index) {
-					++result[0];
+				if (CHECK_LOOPS) {
+					checkLoop(--remaining);
 				}
-				
-				private static final long serialVersionUID = 4377255397062988188L;
-				
-			});
+			}
+			
+			return result;
+		}
+		
+		public final int count(final Manifold topology) {
+			switch (this) {
+			case DART:
+				return topology.getDartCount();
+			case EDGE:
+				return topology.getEdgeCount();
+			default:
+				return this.count(topology, new BitSet(topology.getDartCount()));
+			}
+		}
+		
+		/**
+		 * @param topology
+		 * <br>Not null
+		 * @param marks
+		 * <br>Not null
+		 * <br>Input-output
+		 * <br>Cleared before use, so that it can be reused across calls
+		 */
+		public final int count(final Manifold topology, final BitSet marks) {
+			final int dartCount = topology.getDartCount();
+			int result = 0;
+			
+			marks.clear();
 			
-			return result[0];
+			for (int dart = marks.nextClearBit(0); dart < dartCount; dart = marks.nextClearBit(dart + 1)) {
+				this.mark(topology, dart, marks);
+				++result;
+			}
+			
+			return result;
 		}
 		
 		public abstract void traverse(Manifold topology, DartProcessor processor);
@@ -473,7 +1526,7 @@ public final class Manifold implements Serializable {
 		}
 		
 		protected final void defaultTraverse(final Manifold topology, final int dart, final DartProcessor processor) {
-			final Limit limit = new Limit(topology);
+			int remaining = topology.getDartCount();
 			int d = dart;
 			int index = 0;
 			
@@ -487,29 +1540,36 @@ public final class Manifold implements Serializable {
 					break;
 				}
 				
-				limit.check();
+				if (CHECK_LOOPS) {
+					checkLoop(--remaining);
+				}
 			}
 		}
 		
 		protected final void defaultMark(final Manifold topology, final int dart, final BitSet marks) {
-			final Limit limit = new Limit(topology);
+			int remaining = topology.getDartCount();
 			
 			marks.set(dart);
 			
 			for (int d = this.getNextDart(topology, dart); d != dart; d = this.getNextDart(topology, d)) {
 				marks.set(d);
-				limit.check();
+				
+				if (CHECK_LOOPS) {
+					checkLoop(--remaining);
+				}
 			}
 		}
 		
 		protected final int defaultGetPreviousDart(final Manifold topology, final int dart) {
-			final Limit limit = new Limit(topology);
+			int remaining = topology.getDartCount();
 			int result = dart;
 			
 			for (int d = this.getNextDart(topology, dart); d != dart; d = this.getNextDart(topology, d)) {
 				result = d;
 				
-				limit.check();
+				if (CHECK_LOOPS) {
+					checkLoop(--remaining);
+				}
 			}
 			
 			return result;
@@ -0,0 +1,292 @@
+package multij.tools;
+
+import static multij.tools.Manifold.opposite;
+import static multij.tools.Tools.intRange;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Topological invariants of a {@link Manifold} computed in (almost) linear time.
+ * <br>Faces, vertices and connected components are identified with union-find structures over dart indices,
+ * so that the whole analysis takes a few passes over the darts instead of one traversal per invariant.
+ * <br>Boundary loops are not explicit in a {@link Manifold}: they are the faces selected by the optional boundary predicate.
+ * <br>Every component is assumed to be orientable, which is always the case for a valid {@link Manifold}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ManifoldAnalysis implements Serializable {
+	
+	private final int[] components;
+	
+	private final int[] vertexCounts;
+	
+	private final int[] edgeCounts;
+	
+	private final int[] faceCounts;
+	
+	private final int[] boundaryCounts;
+	
+	/**
+	 * Calls <code>this(topology, null, false)</code>.
+	 */
+	public ManifoldAnalysis(final Manifold topology) {
+		this(topology, null, false);
+	}
+	
+	/**
+	 * @param topology
+	 * <br>Not null
+	 * <br>Must be valid
+	 * @param boundary
+	 * <br>Maybe null
+	 * <br>Called once per face, with the first dart of the face in index order
+	 * @param parallel
+	 * <br>Whether the union-find passes are executed on multiple threads
+	 */
+	public ManifoldAnalysis(final Manifold topology, final IntPredicate boundary, final boolean parallel) {
+		final int n = topology.getDartCount();
+		final int[] faces = intRange(n);
+		final int[] vertices = intRange(n);
+		final int[] componentRoots = intRange(n);
+		
+		if (parallel) {
+			final AtomicIntegerArray atomicFaces = new AtomicIntegerArray(faces);
+			final AtomicIntegerArray atomicVertices = new AtomicIntegerArray(vertices);
+			final AtomicIntegerArray atomicComponents = new AtomicIntegerArray(componentRoots);
+			
+			IntStream.range(0, n).parallel().forEach(dart -> {
+				final int next = topology.getNext(dart);
+				
+				if (0 <= next) {
+					union(atomicFaces, dart, next);
+					union(atomicComponents, dart, next);
+				}
+				
+				final int nextAroundVertex = topology.getNext(opposite(dart));
+				
+				if (0 <= nextAroundVertex) {
+					union(atomicVertices, dart, nextAroundVertex);
+				}
+				
+				union(atomicComponents, dart, opposite(dart));
+			});
+			
+			IntStream.range(0, n).parallel().forEach(dart -> {
+				faces[dart] = find(atomicFaces, dart);
+				vertices[dart] = find(atomicVertices, dart);
+				componentRoots[dart] = find(atomicComponents, dart);
+			});
+		} else {
+			for (int dart = 0; dart < n; ++dart) {
+				final int next = topology.getNext(dart);
+				
+				if (0 <= next) {
+					union(faces, dart, next);
+					union(componentRoots, dart, next);
+				}
+				
+				final int nextAroundVertex = topology.getNext(opposite(dart));
+				
+				if (0 <= nextAroundVertex) {
+					union(vertices, dart, nextAroundVertex);
+				}
+				
+				union(componentRoots, dart, opposite(dart));
+			}
+			
+			for (int dart = 0; dart < n; ++dart) {
+				faces[dart] = find(faces, dart);
+				vertices[dart] = find(vertices, dart);
+				componentRoots[dart] = find(componentRoots, dart);
+			}
+		}
+		
+		// Roots are the smallest darts of their sets, so they are visited before the other members
+		
+		int componentCount = 0;
+		
+		for (int dart = 0; dart < n; ++dart) {
+			final int root = componentRoots[dart];
+			
+			componentRoots[dart] = root == dart ? componentCount++ : componentRoots[root];
+		}
+		
+		this.components = componentRoots;
+		this.vertexCounts = new int[componentCount];
+		this.edgeCounts = new int[componentCount];
+		this.faceCounts = new int[componentCount];
+		this.boundaryCounts = new int[componentCount];
+		
+		for (int dart = 0; dart < n; ++dart) {
+			final int component = this.components[dart];
+			
+			if (vertices[dart] == dart) {
+				++this.vertexCounts[component];
+			}
+			
+			if ((dart & 1) == 0) {
+				++this.edgeCounts[component];
+			}
+			
+			if (faces[dart] == dart) {
+				++this.faceCounts[component];
+				
+				if (boundary != null && boundary.test(dart)) {
+					++this.boundaryCounts[component];
+				}
+			}
+		}
+	}
+	
+	public final int getDartCount() {
+		return this.components.length;
+	}
+	
+	public final int getComponentCount() {
+		return this.vertexCounts.length;
+	}
+	
+	/**
+	 * @param dart
+	 * <br>Range: <code>[0 .. this.getDartCount() - 1]</code>
+	 * @return
+	 * <br>Range: <code>[0 .. this.getComponentCount() - 1]</code>
+	 */
+	public final int getComponent(final int dart) {
+		return this.components[dart];
+	}
+	
+	public final int getVertexCount() {
+		return sum(this.vertexCounts);
+	}
+	
+	public final int getEdgeCount() {
+		return sum(this.edgeCounts);
+	}
+	
+	/**
+	 * @return The number of faces, including boundary loops
+	 */
+	public final int getFaceCount() {
+		return sum(this.faceCounts);
+	}
+	
+	public final int getBoundaryCount() {
+		return sum(this.boundaryCounts);
+	}
+	
+	/**
+	 * @return <code>V - E + F - B</code>
+	 */
+	public final int getEulerCharacteristic() {
+		return this.getVertexCount() - this.getEdgeCount() + this.getFaceCount() - this.getBoundaryCount();
+	}
+	
+	public final int getVertexCount(final int component) {
+		return this.vertexCounts[component];
+	}
+	
+	public final int getEdgeCount(final int component) {
+		return this.edgeCounts[component];
+	}
+	
+	public final int getFaceCount(final int component) {
+		return this.faceCounts[component];
+	}
+	
+	public final int getBoundaryCount(final int component) {
+		return this.boundaryCounts[component];
+	}
+	
+	public final int getEulerCharacteristic(final int component) {
+		return this.getVertexCount(component) - this.getEdgeCount(component)
+				+ this.getFaceCount(component) - this.getBoundaryCount(component);
+	}
+	
+	/**
+	 * @return <code>(2 - this.getEulerCharacteristic(component) - this.getBoundaryCount(component)) / 2</code>
+	 */
+	public final int getGenus(final int component) {
+		return (2 - this.getEulerCharacteristic(component) - this.getBoundaryCount(component)) / 2;
+	}
+	
+	private static final long serialVersionUID = 4712010412645302957L;
+	
+	private static final int sum(final int... values) {
+		int result = 0;
+		
+		for (final int value : values) {
+			result += value;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Path halving.
+	 */
+	private static final int find(final int[] parents, final int i) {
+		int result = i;
+		
+		while (parents[result] != result) {
+			parents[result] = parents[parents[result]];
+			result = parents[result];
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Links the larger root to the smaller one, so that each root is the smallest element of its set.
+	 */
+	private static final void union(final int[] parents, final int i, final int j) {
+		final int rootI = find(parents, i);
+		final int rootJ = find(parents, j);
+		
+		if (rootI < rootJ) {
+			parents[rootJ] = rootI;
+		} else if (rootJ < rootI) {
+			parents[rootI] = rootJ;
+		}
+	}
+	
+	private static final int find(final AtomicIntegerArray parents, final int i) {
+		int result = i;
+		int parent = parents.get(result);
+		
+		while (parent != result) {
+			final int grandParent = parents.get(parent);
+			
+			if (grandParent != parent) {
+				parents.compareAndSet(result, parent, grandParent);
+			}
+			
+			result = parent;
+			parent = parents.get(result);
+		}
+		
+		return result;
+	}
+	
+	private static final void union(final AtomicIntegerArray parents, final int i, final int j) {
+		while (true) {
+			final int rootI = find(parents, i);
+			final int rootJ = find(parents, j);
+			
+			if (rootI == rootJ) {
+				return;
+			}
+			
+			final int min = Math.min(rootI, rootJ);
+			final int max = Math.max(rootI, rootJ);
+			
+			if (parents.compareAndSet(max, max, min)) {
+				return;
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,468 @@
+package multij.tools;
+
+import static multij.tools.Manifold.opposite;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntToDoubleFunction;
+
+import multij.primitivelists.IntList;
+import multij.tools.Manifold.Traversor;
+
+/**
+ * Graph view of the vertices ({@link Traversor#VERTEX}) or faces ({@link Traversor#FACE}) of a {@link Manifold}.
+ * <br>Cells are numbered once at construction, and the graph edges are the darts:
+ * dart <code>d</code> links the cell of <code>d</code> to the cell of <code>opposite(d)</code>,
+ * that is the primal graph for vertices and the dual graph for faces.
+ * <br>All algorithms work on primitive arrays, {@link IntList} queues and {@link BitSet}s.
+ * <br>The manifold must not be modified while this graph is in use.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ManifoldGraph implements Serializable {
+	
+	private final Manifold topology;
+	
+	private final Traversor cellType;
+	
+	private final int[] cells;
+	
+	private final IntList darts;
+	
+	/**
+	 * @param topology
+	 * <br>Not null
+	 * <br>Must be valid
+	 * @param cellType
+	 * <br>Not null
+	 */
+	public ManifoldGraph(final Manifold topology, final Traversor cellType) {
+		final int n = topology.getDartCount();
+		
+		this.topology = topology;
+		this.cellType = cellType;
+		this.cells = new int[n];
+		this.darts = new IntList();
+		
+		Arrays.fill(this.cells, -1);
+		
+		for (int dart = 0; dart < n; ++dart) {
+			if (this.cells[dart] < 0) {
+				final int cell = this.darts.size();
+				int d = dart;
+				
+				this.darts.add(dart);
+				
+				do {
+					this.cells[d] = cell;
+					d = cellType.getNextDart(topology, d);
+				} while (d != dart);
+			}
+		}
+	}
+	
+	public final Manifold getTopology() {
+		return this.topology;
+	}
+	
+	public final Traversor getCellType() {
+		return this.cellType;
+	}
+	
+	public final int getCellCount() {
+		return this.darts.size();
+	}
+	
+	/**
+	 * @param dart
+	 * <br>Range: <code>[0 .. this.getTopology().getDartCount() - 1]</code>
+	 * @return
+	 * <br>Range: <code>[0 .. this.getCellCount() - 1]</code>
+	 */
+	public final int getCell(final int dart) {
+		return this.cells[dart];
+	}
+	
+	/**
+	 * @param cell
+	 * <br>Range: <code>[0 .. this.getCellCount() - 1]</code>
+	 * @return The smallest dart of <code>cell</code>
+	 * <br>Range: <code>[0 .. this.getTopology().getDartCount() - 1]</code>
+	 */
+	public final int getDart(final int cell) {
+		return this.darts.get(cell);
+	}
+	
+	/**
+	 * @param cellOrder
+	 * <br>Maybe null
+	 * <br>Output: if not null, the reached cells are appended in visiting order
+	 * @param sourceCells
+	 * <br>Not null
+	 * @return The layer (number of graph edges to the nearest source) of each cell, <code>-1</code> for unreachable cells
+	 * <br>Not null
+	 * <br>New
+	 */
+	public final int[] getBreadthFirstLayers(final IntList cellOrder, final int... sourceCells) {
+		final int[] result = new int[this.getCellCount()];
+		final IntList queue = cellOrder != null ? cellOrder : new IntList();
+		int i = queue.size();
+		
+		Arrays.fill(result, -1);
+		
+		for (final int cell : sourceCells) {
+			if (result[cell] < 0) {
+				result[cell] = 0;
+				queue.add(cell);
+			}
+		}
+		
+		while (i < queue.size()) {
+			final int cell = queue.get(i++);
+			final int layer = result[cell] + 1;
+			final int first = this.getDart(cell);
+			int d = first;
+			
+			do {
+				final int neighbor = this.getCell(opposite(d));
+				
+				if (result[neighbor] < 0) {
+					result[neighbor] = layer;
+					queue.add(neighbor);
+				}
+				
+				d = this.getCellType().getNextDart(this.getTopology(), d);
+			} while (d != first);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Dijkstra's algorithm with an indexed binary heap.
+	 *
+	 * @param dartWeights
+	 * <br>Not null
+	 * <br>Weight of the graph edge going through each dart, must be non-negative
+	 * @param parentDarts
+	 * <br>Maybe null
+	 * <br>Output: if not null, receives for each cell the dart leading to it on a shortest path,
+	 * or <code>-1</code> for sources and unreachable cells
+	 * <br>Length: <code>this.getCellCount()</code>
+	 * @param sourceCells
+	 * <br>Not null
+	 * @return The distance from each cell to the nearest source, {@link Double#POSITIVE_INFINITY} for unreachable cells
+	 * <br>Not null
+	 * <br>New
+	 */
+	public final double[] getShortestPaths(final IntToDoubleFunction dartWeights, final int[] parentDarts, final int... sourceCells) {
+		final double[] result = new double[this.getCellCount()];
+		final MinHeap heap = new MinHeap(result);
+		
+		Arrays.fill(result, Double.POSITIVE_INFINITY);
+		
+		if (parentDarts != null) {
+			Arrays.fill(parentDarts, -1);
+		}
+		
+		for (final int cell : sourceCells) {
+			heap.update(cell, 0.0);
+		}
+		
+		while (!heap.isEmpty()) {
+			final int cell = heap.poll();
+			final int first = this.getDart(cell);
+			int d = first;
+			
+			do {
+				final int neighbor = this.getCell(opposite(d));
+				final double distance = result[cell] + dartWeights.applyAsDouble(d);
+				
+				if (distance < result[neighbor] && heap.update(neighbor, distance) && parentDarts != null) {
+					parentDarts[neighbor] = d;
+				}
+				
+				d = this.getCellType().getNextDart(this.getTopology(), d);
+			} while (d != first);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Prim's algorithm, restarted in each connected component.
+	 *
+	 * @param dartWeights
+	 * <br>Maybe null
+	 * <br>If null, the result is a breadth-first spanning forest
+	 * @return For each cell, the dart linking it to its parent in the spanning forest, <code>-1</code> for roots
+	 * <br>Not null
+	 * <br>New
+	 */
+	public final int[] getMinimumSpanningForest(final IntToDoubleFunction dartWeights) {
+		final int n = this.getCellCount();
+		final int[] result = new int[n];
+		
+		if (dartWeights == null) {
+			final IntList queue = new IntList();
+			final BitSet reached = new BitSet(n);
+			
+			Arrays.fill(result, -1);
+			
+			for (int root = reached.nextClearBit(0); root < n; root = reached.nextClearBit(root + 1)) {
+				reached.set(root);
+				queue.add(root);
+				
+				while (!queue.isEmpty()) {
+					final int cell = queue.remove(0);
+					final int first = this.getDart(cell);
+					int d = first;
+					
+					do {
+						final int neighbor = this.getCell(opposite(d));
+						
+						if (!reached.get(neighbor)) {
+							reached.set(neighbor);
+							result[neighbor] = d;
+							queue.add(neighbor);
+						}
+						
+						d = this.getCellType().getNextDart(this.getTopology(), d);
+					} while (d != first);
+				}
+			}
+			
+			return result;
+		}
+		
+		final double[] keys = new double[n];
+		final MinHeap heap = new MinHeap(keys);
+		final BitSet done = new BitSet(n);
+		
+		Arrays.fill(keys, Double.POSITIVE_INFINITY);
+		Arrays.fill(result, -1);
+		
+		for (int root = done.nextClearBit(0); root < n; root = done.nextClearBit(root + 1)) {
+			heap.update(root, 0.0);
+			
+			while (!heap.isEmpty()) {
+				final int cell = heap.poll();
+				final int first = this.getDart(cell);
+				int d = first;
+				
+				done.set(cell);
+				
+				do {
+					final int neighbor = this.getCell(opposite(d));
+					final double weight = dartWeights.applyAsDouble(d);
+					
+					if (!done.get(neighbor) && weight < keys[neighbor] && heap.update(neighbor, weight)) {
+						result[neighbor] = d;
+					}
+					
+					d = this.getCellType().getNextDart(this.getTopology(), d);
+				} while (d != first);
+			}
+		}
+		
+		return result;
+	}
+	
+	private static final long serialVersionUID = -3585040658391271208L;
+	
+	/**
+	 * Computes a cut graph with the tree-cotree construction:
+	 * the edges that do not belong to a spanning forest of the dual graph,
+	 * after iteratively removing the dangling edges.
+	 * <br>Cutting a closed surface of genus <code>g</code> along the result yields a topological disk;
+	 * the result is empty for a sphere and otherwise made of <code>2g</code> loops joined in a graph.
+	 *
+	 * @param topology
+	 * <br>Not null
+	 * <br>Must be valid
+	 * @return The edges (dart / 2) of the cut graph
+	 * <br>Not null
+	 * <br>New
+	 */
+	public static final BitSet getCutGraph(final Manifold topology) {
+		final ManifoldGraph faces = new ManifoldGraph(topology, Traversor.FACE);
+		final ManifoldGraph vertices = new ManifoldGraph(topology, Traversor.VERTEX);
+		final int[] dualForest = faces.getMinimumSpanningForest(null);
+		final int edgeCount = topology.getEdgeCount();
+		final BitSet result = new BitSet(edgeCount);
+		final int[] degrees = new int[vertices.getCellCount()];
+		
+		result.set(0, edgeCount);
+		
+		for (final int dart : dualForest) {
+			if (0 <= dart) {
+				result.clear(dart >> 1);
+			}
+		}
+		
+		for (int edge = result.nextSetBit(0); 0 <= edge; edge = result.nextSetBit(edge + 1)) {
+			++degrees[vertices.getCell(2 * edge)];
+			++degrees[vertices.getCell(2 * edge + 1)];
+		}
+		
+		final IntList leaves = new IntList();
+		
+		for (int vertex = 0; vertex < degrees.length; ++vertex) {
+			if (degrees[vertex] == 1) {
+				leaves.add(vertex);
+			}
+		}
+		
+		while (!leaves.isEmpty()) {
+			final int vertex = leaves.remove(0);
+			final int first = vertices.getDart(vertex);
+			int d = first;
+			
+			do {
+				if (result.get(d >> 1)) {
+					final int neighbor = vertices.getCell(opposite(d));
+					
+					result.clear(d >> 1);
+					
+					if (--degrees[neighbor] == 1) {
+						leaves.add(neighbor);
+					}
+					
+					--degrees[vertex];
+					
+					break;
+				}
+				
+				d = Traversor.VERTEX.getNextDart(topology, d);
+			} while (d != first);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Binary min-heap of indices ordered by <code>keys</code>, supporting decrease-key.
+	 *
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	private static final class MinHeap implements Serializable {
+		
+		private final double[] keys;
+		
+		private final int[] heap;
+		
+		private final int[] positions;
+		
+		private int size;
+		
+		MinHeap(final double[] keys) {
+			this.keys = keys;
+			this.heap = new int[keys.length];
+			this.positions = new int[keys.length];
+			
+			Arrays.fill(this.positions, -1);
+		}
+		
+		final boolean isEmpty() {
+			return this.size == 0;
+		}
+		
+		/**
+		 * Inserts <code>index</code> or decreases its key.
+		 *
+		 * @return <code>true</code> if the key of <code>index</code> was set to <code>key</code>
+		 */
+		final boolean update(final int index, final double key) {
+			int position = this.positions[index];
+			
+			if (position == -2 || 0 <= position && this.keys[index] <= key) {
+				return false;
+			}
+			
+			if (position < 0) {
+				position = this.size++;
+				this.heap[position] = index;
+				this.positions[index] = position;
+			}
+			
+			this.keys[index] = key;
+			
+			this.siftUp(position);
+			
+			return true;
+		}
+		
+		final int poll() {
+			final int result = this.heap[0];
+			final int last = this.heap[--this.size];
+			
+			this.positions[result] = -2;
+			
+			if (0 < this.size) {
+				this.heap[0] = last;
+				this.positions[last] = 0;
+				this.siftDown(0);
+			}
+			
+			return result;
+		}
+		
+		private final void siftUp(final int position) {
+			final int index = this.heap[position];
+			final double key = this.keys[index];
+			int i = position;
+			
+			while (0 < i) {
+				final int parent = (i - 1) >> 1;
+				final int parentIndex = this.heap[parent];
+				
+				if (this.keys[parentIndex] <= key) {
+					break;
+				}
+				
+				this.heap[i] = parentIndex;
+				this.positions[parentIndex] = i;
+				i = parent;
+			}
+			
+			this.heap[i] = index;
+			this.positions[index] = i;
+		}
+		
+		private final void siftDown(final int position) {
+			final int index = this.heap[position];
+			final double key = this.keys[index];
+			int i = position;
+			
+			while (true) {
+				int child = 2 * i + 1;
+				
+				if (this.size <= child) {
+					break;
+				}
+				
+				if (child + 1 < this.size && this.keys[this.heap[child + 1]] < this.keys[this.heap[child]]) {
+					++child;
+				}
+				
+				final int childIndex = this.heap[child];
+				
+				if (key <= this.keys[childIndex]) {
+					break;
+				}
+				
+				this.heap[i] = childIndex;
+				this.positions[childIndex] = i;
+				i = child;
+			}
+			
+			this.heap[i] = index;
+			this.positions[index] = i;
+		}
+		
+		private static final long serialVersionUID = 2810290359451707796L;
+		
+	}
+	
+}
@@ -0,0 +1,315 @@
+package multij.tools;
+
+import static multij.tools.Tools.unchecked;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary file format for {@link Manifold}, read and written through a {@link FileChannel} in fixed-size blocks.
+ * <br>Layout (little-endian):
+ * <pre>
+ * int  magic ({@link #MAGIC})
+ * int  version ({@link #VERSION})
+ * int  flags ({@link #VARINTS} or 0)
+ * int  dart count
+ * long payload size in bytes
+ * int  CRC32C of the payload
+ * int  reserved (0)
+ * payload: the next of each dart, either as raw ints
+ *          or as zigzag-encoded LEB128 varints of <code>next - dart</code>
+ * </pre>
+ * Attributes are not stored.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ManifoldIO {
+	
+	/**
+	 * @throws IllegalInstantiationException To prevent instantiation
+	 */
+	private ManifoldIO() {
+		throw new IllegalInstantiationException();
+	}
+	
+	/**
+	 * {@value}.
+	 */
+	public static final int MAGIC = 0x444C464D;
+	
+	/**
+	 * {@value}.
+	 */
+	public static final int VERSION = 1;
+	
+	/**
+	 * {@value}.
+	 */
+	public static final int VARINTS = 1;
+	
+	/**
+	 * {@value}.
+	 */
+	public static final int HEADER_SIZE = 32;
+	
+	/**
+	 * {@value}.
+	 */
+	public static final int BLOCK_SIZE = 1 << 20;
+	
+	/**
+	 * @param manifold
+	 * <br>Not null
+	 * @param filePath
+	 * <br>Not null
+	 * @param compressed
+	 * <br>Whether nexts are stored as varints instead of raw ints
+	 */
+	public static final void write(final Manifold manifold, final String filePath, final boolean compressed) {
+		try (final FileChannel channel = FileChannel.open(Paths.get(filePath),
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			final int dartCount = manifold.getDartCount();
+			final int[] nexts = new int[BLOCK_SIZE / Integer.BYTES];
+			final CRC32C checksum = new CRC32C();
+			long payloadSize = 0L;
+			
+			channel.position(HEADER_SIZE);
+			
+			for (int first = 0; first < dartCount; first += nexts.length) {
+				final int n = Math.min(nexts.length, dartCount - first);
+				
+				manifold.getNexts(first, nexts, 0, n);
+				
+				if (compressed) {
+					for (int i = 0; i < n; ++i) {
+						if (buffer.remaining() < MAXIMUM_VARINT_SIZE) {
+							payloadSize += flush(buffer, channel, checksum);
+						}
+						
+						putVarint(buffer, zigzag(nexts[i] - (first + i)));
+					}
+				} else {
+					buffer.asIntBuffer().put(nexts, 0, n);
+					buffer.position(n * Integer.BYTES);
+					payloadSize += flush(buffer, channel, checksum);
+				}
+			}
+			
+			payloadSize += flush(buffer, channel, checksum);
+			
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(compressed ? VARINTS : 0).putInt(dartCount)
+				.putLong(payloadSize).putInt((int) checksum.getValue()).putInt(0).flip();
+			
+			channel.position(0L);
+			
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} catch (final Exception exception) {
+			throw unchecked(exception);
+		}
+	}
+	
+	/**
+	 * @param filePath
+	 * <br>Not null
+	 * @param validate
+	 * <br>Whether {@link Manifold#isValid()} must be checked after loading
+	 * @return
+	 * <br>Not null
+	 * <br>New
+	 * @throws RuntimeException wrapping a {@link StreamCorruptedException} if the file is not a valid manifold file
+	 */
+	public static final Manifold read(final String filePath, final boolean validate) {
+		try (final FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			
+			buffer.limit(HEADER_SIZE);
+			
+			if (readFully(buffer, channel) != HEADER_SIZE) {
+				throw new EOFException("Truncated header: " + filePath);
+			}
+			
+			buffer.flip();
+			
+			if (buffer.getInt() != MAGIC) {
+				throw new StreamCorruptedException("Not a manifold file: " + filePath);
+			}
+			
+			final int version = buffer.getInt();
+			
+			if (version != VERSION) {
+				throw new StreamCorruptedException("Unsupported version: " + version);
+			}
+			
+			final boolean compressed = (buffer.getInt() & VARINTS) != 0;
+			final int dartCount = buffer.getInt();
+			final long payloadSize = buffer.getLong();
+			final int expectedChecksum = buffer.getInt();
+			
+			if (dartCount < 0 || (dartCount & 1) != 0 || payloadSize < 0L) {
+				throw new StreamCorruptedException("Invalid header: " + filePath);
+			}
+			
+			final Manifold result = new Manifold();
+			final int[] nexts = new int[BLOCK_SIZE / Integer.BYTES];
+			final CRC32C checksum = new CRC32C();
+			long remainingBytes = payloadSize;
+			int dart = 0;
+			
+			result.newEdges(dartCount / 2);
+			buffer.clear();
+			
+			while (dart < dartCount) {
+				final int start = buffer.position();
+				final int expectedSize = (int) Math.min(buffer.remaining(), remainingBytes);
+				
+				buffer.limit(start + expectedSize);
+				
+				if (readFully(buffer, channel) != expectedSize) {
+					throw new EOFException("Truncated file: " + filePath);
+				}
+				
+				remainingBytes -= expectedSize;
+				buffer.flip();
+				checksum.update(buffer.duplicate().position(start));
+				
+				final boolean last = remainingBytes == 0L;
+				int n = 0;
+				
+				if (compressed) {
+					while (dart + n < dartCount && (MAXIMUM_VARINT_SIZE <= buffer.remaining() || last && buffer.hasRemaining())) {
+						nexts[n] = unzigzag(getVarint(buffer)) + dart + n;
+						
+						if (++n == nexts.length) {
+							result.setNexts(dart, nexts, 0, n);
+							dart += n;
+							n = 0;
+						}
+					}
+				} else {
+					n = Math.min(dartCount - dart, buffer.remaining() / Integer.BYTES);
+					
+					buffer.asIntBuffer().get(nexts, 0, n);
+					buffer.position(buffer.position() + n * Integer.BYTES);
+				}
+				
+				result.setNexts(dart, nexts, 0, n);
+				dart += n;
+				
+				if (last && dart < dartCount) {
+					throw new EOFException("Truncated payload: " + filePath);
+				}
+				
+				buffer.compact();
+			}
+			
+			if (remainingBytes != 0L || buffer.position() != 0) {
+				throw new StreamCorruptedException("Unexpected payload size: " + filePath);
+			}
+			
+			if ((int) checksum.getValue() != expectedChecksum) {
+				throw new StreamCorruptedException("Checksum mismatch: " + filePath);
+			}
+			
+			if (validate && !result.isValid()) {
+				throw new StreamCorruptedException("Invalid manifold: " + filePath);
+			}
+			
+			return result;
+		} catch (final Exception exception) {
+			throw unchecked(exception);
+		}
+	}
+	
+	/**
+	 * {@value}.
+	 */
+	private static final int MAXIMUM_VARINT_SIZE = 5;
+	
+	/**
+	 * Writes the content of <code>buffer</code> and clears it.
+	 *
+	 * @return The number of bytes written
+	 */
+	private static final int flush(final ByteBuffer buffer, final FileChannel channel, final CRC32C checksum) throws IOException {
+		buffer.flip();
+		
+		final int result = buffer.remaining();
+		
+		checksum.update(buffer.duplicate());
+		
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		
+		buffer.clear();
+		
+		return result;
+	}
+	
+	/**
+	 * Reads from <code>channel</code> until <code>buffer</code> is full or the end of the channel is reached.
+	 *
+	 * @return The number of bytes read
+	 */
+	private static final int readFully(final ByteBuffer buffer, final FileChannel channel) throws IOException {
+		int result = 0;
+		
+		while (buffer.hasRemaining()) {
+			final int read = channel.read(buffer);
+			
+			if (read < 0) {
+				break;
+			}
+			
+			result += read;
+		}
+		
+		return result;
+	}
+	
+	private static final int zigzag(final int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+	
+	private static final int unzigzag(final int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	private static final void putVarint(final ByteBuffer buffer, final int value) {
+		int v = value;
+		
+		while ((v & ~0x7F) != 0) {
+			buffer.put((byte) ((v & 0x7F) | 0x80));
+			v >>>= 7;
+		}
+		
+		buffer.put((byte) v);
+	}
+	
+	private static final int getVarint(final ByteBuffer buffer) throws StreamCorruptedException {
+		int result = 0;
+		
+		for (int shift = 0; shift < 35; shift += 7) {
+			final byte b = buffer.get();
+			
+			result |= (b & 0x7F) << shift;
+			
+			if (0 <= b) {
+				return result;
+			}
+		}
+		
+		throw new StreamCorruptedException("Invalid varint");
+	}
+	
+}
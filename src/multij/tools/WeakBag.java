@@ -26,10 +26,11 @@ package multij.tools;
 
 import static multij.tools.Tools.*;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.logging.Level;
 
 /**
@@ -39,16 +40,28 @@ import java.util.logging.Level;
  * and then removed by {@link Iterator#next()}.
  * <br>When elements need to be compared, the identity operator {@code ==} is used.
  * <br>Iteration goes through the elements in the same order they were inserted.
+ * <br>Instances are thread-safe: modifications are serialized, and iteration is lock-free and weakly consistent
+ * (an iterator sees the elements appended before its creation, minus those that have been collected or removed since).
+ * <br>References cleared by the garbage collector are reported through a {@link ReferenceQueue},
+ * so that the element count is maintained in constant time and dead entries are purged in batches
+ * without traversing the bag.
  *
  * @param <T> The element type
  * @author codistmonk (creation 2010-10-24)
  */
 public final class WeakBag<T> implements Iterable<T> {
 
-    private final List<WeakReference<T>> references;
+    private final ReferenceQueue<T> queue;
+
+    private volatile Slots<T> slots;
+
+    private int elementCount;
+
+    private int deadEntryCount;
 
     public WeakBag() {
-        this.references = new LinkedList<WeakReference<T>>();
+        this.queue = new ReferenceQueue<T>();
+        this.slots = new Slots<T>(newEntries(INITIAL_CAPACITY), 0);
     }
 
     /**
@@ -57,8 +70,21 @@ public final class WeakBag<T> implements Iterable<T> {
      * <br>Not null
      * <br>Shared
      */
-    public final void append(final T element) {
-        this.getReferences().add(new WeakReference<T>(element));
+    public final synchronized void append(final T element) {
+        this.expungeStaleEntries();
+
+        final Slots<T> oldSlots = this.slots;
+        Entry<T>[] entries = oldSlots.entries;
+
+        if (oldSlots.size == entries.length) {
+            entries = Arrays.copyOf(entries, 2 * entries.length);
+        }
+
+        // Iterators only read entries below their own size, so this slot is not visible yet
+        entries[oldSlots.size] = new Entry<T>(element, this.queue);
+
+        this.slots = new Slots<T>(entries, oldSlots.size + 1);
+        ++this.elementCount;
     }
 
     /**
@@ -66,10 +92,22 @@ public final class WeakBag<T> implements Iterable<T> {
      * @param element
      * <br>Maybe null
      */
-    public final void remove(final T element) {
-        for (final Iterator<T> i = this.iterator(); i.hasNext();) {
-            if (i.next() == element) {
-                i.remove();
+    public final synchronized void remove(final T element) {
+        if (element == null) {
+            return;
+        }
+
+        this.expungeStaleEntries();
+
+        final Slots<T> oldSlots = this.slots;
+        final Entry<T>[] entries = oldSlots.entries;
+        final int size = oldSlots.size;
+
+        for (int i = 0; i < size; ++i) {
+            if (entries[i].get() == element) {
+                this.removeEntries(element, oldSlots, i);
+
+                return;
             }
         }
     }
@@ -79,16 +117,10 @@ public final class WeakBag<T> implements Iterable<T> {
      * @return
      * <br>Range: {@code [0 .. Integer.MAX_VALUE]}
      */
-    public final int getElementCount() {
-        int result = 0;
+    public final synchronized int getElementCount() {
+        this.expungeStaleEntries();
 
-        for (final T element : this) {
-            if (element != null) {
-                ++result;
-            }
-        }
-
-        return result;
+        return this.elementCount;
     }
 
     /**
@@ -102,17 +134,107 @@ public final class WeakBag<T> implements Iterable<T> {
 
     @Override
     public final Iterator<T> iterator() {
-        return this.new WeakIterator();
+        return this.new WeakIterator(this.slots);
+    }
+
+    /**
+     * Processes the references cleared by the garbage collector, and compacts the entries
+     * when at least half of them are dead.
+     * <br>Must be called while holding the lock on <code>this</code>.
+     */
+    private final void expungeStaleEntries() {
+        while (this.queue.poll() != null) {
+            --this.elementCount;
+            ++this.deadEntryCount;
+        }
+
+        final Slots<T> oldSlots = this.slots;
+
+        if (0 < this.deadEntryCount && oldSlots.size <= 2 * this.deadEntryCount) {
+            this.removeEntries(null, oldSlots, 0);
+        }
+    }
+
+    /**
+     * Replaces the entries with a compacted copy that contains neither dead entries nor <code>element</code>.
+     * <br>Must be called while holding the lock on <code>this</code>.
+     */
+    private final void removeEntries(final T element, final Slots<T> oldSlots, final int start) {
+        final Entry<T>[] oldEntries = oldSlots.entries;
+        final int oldSize = oldSlots.size;
+        final Entry<T>[] newEntries = newEntries(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, oldSize)) * 2));
+        int newSize = 0;
+
+        for (int i = 0; i < oldSize; ++i) {
+            final Entry<T> entry = oldEntries[i];
+            final T referent = entry.get();
+
+            if (referent == null) {
+                continue;
+            }
+
+            if (i >= start && referent == element) {
+                // Cleared explicitly, so the garbage collector won't enqueue it
+                entry.clear();
+                --this.elementCount;
+            } else {
+                newEntries[newSize++] = entry;
+            }
+        }
+
+        this.slots = new Slots<T>(newEntries, newSize);
+
+        // Entries that are dead but not enqueued yet have been dropped too; they will be counted when enqueued
+        this.deadEntryCount = 0;
     }
 
     /**
+     * Removes only <code>entry</code>, unlike {@link #remove(Object)} which removes all the occurrences of an element.
+     * <br>The entry is treated like one cleared by the garbage collector:
+     * it stays in place until the next compaction.
+     */
+    final synchronized void remove(final Entry<T> entry) {
+        if (entry.get() == null) {
+            // Already removed explicitly, or cleared by the garbage collector which reports it through the queue
+            return;
+        }
+
+        // Clears the entry, unless the garbage collector has already enqueued it, so that it is counted only once
+        entry.enqueue();
+
+        this.expungeStaleEntries();
+    }
+
+    /**
+     * @param <T> The element type
+     * @author codistmonk (creation 2026-10-19)
+     */
+    static final class Entry<T> extends WeakReference<T> {
+
+        Entry(final T referent, final ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+        }
+
+    }
+
+    /**
+     * Immutable pair of entries and size, so that iterators can read both consistently without locking.
+     * <br>The entries below <code>size</code> are never modified; the array is replaced instead.
      *
-     * @return
-     * <br>Not null
-     * <br>Shared
+     * @param <T> The element type
+     * @author codistmonk (creation 2026-10-19)
      */
-    final List<WeakReference<T>> getReferences() {
-        return this.references;
+    static final class Slots<T> {
+
+        final Entry<T>[] entries;
+
+        final int size;
+
+        Slots(final Entry<T>[] entries, final int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
     }
 
     /**
@@ -120,22 +242,25 @@ public final class WeakBag<T> implements Iterable<T> {
      */
     private final class WeakIterator implements Iterator<T> {
 
-        private final Iterator<WeakReference<T>> iterator;
+        private final Slots<T> slots;
+
+        private int index;
+
+        private Entry<T> entry;
+
+        private Entry<T> nextEntry;
 
         private T next;
 
-        public WeakIterator() {
-            this.iterator = WeakBag.this.getReferences().iterator();
+        public WeakIterator(final Slots<T> slots) {
+            this.slots = slots;
         }
 
         @Override
         public final boolean hasNext() {
-            while (this.next == null && this.iterator.hasNext()) {
-                this.next = this.iterator.next().get();
-
-                if (this.next == null) {
-                    this.iterator.remove();
-                }
+            while (this.next == null && this.index < this.slots.size) {
+                this.nextEntry = this.slots.entries[this.index++];
+                this.next = this.nextEntry.get();
             }
 
             return this.next != null;
@@ -143,7 +268,12 @@ public final class WeakBag<T> implements Iterable<T> {
 
         @Override
         public final T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
             final T result = this.next;
+            this.entry = this.nextEntry;
             this.next = null;
 
             return result;
@@ -151,11 +281,26 @@ public final class WeakBag<T> implements Iterable<T> {
 
         @Override
         public final void remove() {
-            this.iterator.remove();
+            if (this.entry == null) {
+                throw new IllegalStateException();
+            }
+
+            WeakBag.this.remove(this.entry);
+            this.entry = null;
         }
 
     }
 
+    /**
+     * {@value}.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final <T> Entry<T>[] newEntries(final int capacity) {
+        return new Entry[capacity];
+    }
+
     /**
      * {@value} milliseconds.
      */
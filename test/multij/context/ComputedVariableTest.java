@@ -0,0 +1,213 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.context;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import multij.events.AtomicVariable;
+import multij.events.Variable;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link ComputedVariable}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ComputedVariableTest {
+	
+	@Test
+	public final void test1() {
+		final AtomicVariable<Integer> a = new AtomicVariable<Integer>(Integer.class, "a", 1);
+		final AtomicInteger computations = new AtomicInteger();
+		final ComputedVariable<Integer> b = new ComputedVariable<Integer>(Integer.class, "b", reader -> {
+			computations.incrementAndGet();
+			
+			return reader.get(a) + 1;
+		});
+		
+		assertEquals(0, computations.get());
+		assertEquals((Object) 2, b.getValue());
+		assertEquals((Object) 2, b.getValue());
+		assertEquals(1, computations.get());
+		
+		a.setValue(2);
+		a.setValue(3);
+		
+		assertTrue(b.isDirty());
+		assertEquals(1, computations.get());
+		assertEquals((Object) 4, b.getValue());
+		assertEquals(2, computations.get());
+		
+		b.dispose();
+		a.setValue(4);
+		
+		assertFalse(a.getListeners().iterator().hasNext());
+	}
+	
+	@Test
+	public final void test2() {
+		final AtomicVariable<Integer> a = new AtomicVariable<Integer>(Integer.class, "a", 1);
+		final ComputedVariable<Integer> b = new ComputedVariable<Integer>(Integer.class, "b", reader -> reader.get(a) + 1);
+		final ComputedVariable<Integer> c = new ComputedVariable<Integer>(Integer.class, "c", reader -> reader.get(a) * 2);
+		final ComputedVariable<Integer> d = new ComputedVariable<Integer>(Integer.class, "d", reader -> reader.get(b) + reader.get(c));
+		final List<String> changes = new ArrayList<String>();
+		
+		assertEquals((Object) 4, d.getValue());
+		
+		d.addListener(event -> changes.add(event.getOldValue() + "->" + event.getNewValue()));
+		
+		a.setValue(2);
+		
+		assertEquals(1, changes.size());
+		assertEquals("4->7", changes.get(0));
+		
+		ComputedVariable.batch(() -> {
+			a.setValue(3);
+			a.setValue(4);
+			
+			assertEquals(1, changes.size());
+		});
+		
+		assertEquals(2, changes.size());
+		assertEquals("7->13", changes.get(1));
+		
+		ComputedVariable.batch(() -> {
+			a.setValue(5);
+			a.setValue(4);
+		});
+		
+		assertEquals(2, changes.size());
+	}
+	
+	@Test
+	public final void test3() {
+		final Context context = new Context();
+		final ComputedVariable<String> greeting = new ComputedVariable<String>(String.class, "greeting",
+				reader -> "Hello " + reader.get(context, "name"));
+		final List<Variable.ValueChangedEvent<String, ?>> events = new ArrayList<Variable.ValueChangedEvent<String, ?>>();
+		
+		assertEquals("Hello null", greeting.getValue());
+		
+		greeting.addListener(events::add);
+		
+		context.set("name", "world");
+		
+		assertEquals(1, events.size());
+		assertEquals("Hello world", greeting.getValue());
+		
+		context.set("name", "there");
+		
+		assertEquals(2, events.size());
+		assertEquals("Hello there", events.get(1).getNewValue());
+		
+		context.remove("name");
+		
+		assertEquals(3, events.size());
+		assertEquals("Hello null", greeting.getValue());
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public final void test4() {
+		final List<ComputedVariable<Integer>> variables = new ArrayList<ComputedVariable<Integer>>();
+		
+		variables.add(new ComputedVariable<Integer>(Integer.class, "x", reader -> reader.get(variables.get(0))));
+		
+		variables.get(0).getValue();
+	}
+	
+	@Test
+	public final void test5() {
+		final AtomicVariable<Integer> x = new AtomicVariable<Integer>(Integer.class, "x", 0);
+		final ComputedVariable<Integer> c = new ComputedVariable<Integer>(Integer.class, "c", reader -> reader.get(x) * 2);
+		final List<String> changes = new ArrayList<String>();
+		
+		assertEquals((Object) 0, c.getValue());
+		
+		c.addListener(event -> changes.add(event.getOldValue() + "->" + event.getNewValue()));
+		
+		ComputedVariable.batch(() -> {
+			x.setValue(5);
+			
+			assertEquals((Object) 10, c.getValue());
+		});
+		
+		assertEquals(1, changes.size());
+		assertEquals("0->10", changes.get(0));
+		assertEquals((Object) 10, c.getValue());
+	}
+	
+	@Test
+	public final void test6() {
+		final AtomicVariable<Integer> a = new AtomicVariable<Integer>(Integer.class, "a", 1);
+		final AtomicInteger offset = new AtomicInteger(10);
+		final AtomicInteger computations = new AtomicInteger();
+		final ComputedVariable<Integer> b = new ComputedVariable<Integer>(Integer.class, "b", reader -> {
+			computations.incrementAndGet();
+			
+			return reader.get(a) + offset.get();
+		});
+		final ComputedVariable<Integer> c = new ComputedVariable<Integer>(Integer.class, "c", reader -> {
+			computations.incrementAndGet();
+			
+			return reader.get(a) - offset.get();
+		});
+		final List<String> changes = new ArrayList<String>();
+		final AtomicVariable<Integer>.ValueChangedEvent event = a.new ValueChangedEvent(1, 1);
+		
+		b.addListener(e -> changes.add("b:" + e.getOldValue() + "->" + e.getNewValue()));
+		c.addListener(e -> changes.add("c:" + e.getOldValue() + "->" + e.getNewValue()));
+		
+		assertEquals((Object) 11, b.getValue());
+		assertEquals((Object) (-9), c.getValue());
+		assertEquals(2, computations.get());
+		
+		offset.set(20);
+		event.fire();
+		
+		// Each computed variable is recomputed once, although both listen to the source of the event
+		assertEquals(4, computations.get());
+		assertEquals(list("b:11->21", "c:-9->-19"), changes);
+		
+		// A re-armed event must be processed again
+		offset.set(30);
+		event.rearm().fire();
+		
+		assertEquals(6, computations.get());
+		assertEquals(list("b:11->21", "c:-9->-19", "b:21->31", "c:-19->-29"), changes);
+		assertEquals((Object) 31, b.getValue());
+		assertEquals((Object) (-29), c.getValue());
+	}
+	
+	private static final List<String> list(final String... elements) {
+		return Arrays.asList(elements);
+	}
+	
+}
@@ -26,8 +26,19 @@ package multij.context;
 
 import static multij.events.EventsTestingTools.*;
 import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import multij.context.Context;
 import multij.context.Context.Listener;
+import multij.events.AtomicVariable;
+import multij.events.Variable;
 
 import org.junit.Test;
 
@@ -63,4 +74,301 @@ public final class ContextTest {
         assertEquals(4, recorder.getEvents().size());
    }
 
-}
\ No newline at end of file
+    @Test
+    public final <R extends EventRecorder<?> & Listener> void testComputeVariable() {
+        final Context context = new Context();
+        @SuppressWarnings("unchecked")
+        final R recorder = (R) newEventRecorder(Context.Listener.class);
+        final Variable<Integer> x = new AtomicVariable<Integer>(Integer.class, "x", 1);
+
+        context.addListener(recorder);
+
+        assertNull(context.putVariableIfAbsent(x));
+        assertSame(x, context.putVariableIfAbsent(new AtomicVariable<Integer>(Integer.class, "x", 2)));
+        assertSame(x, context.<Integer>computeVariableIfAbsent("x", name -> {
+            throw new AssertionError();
+        }));
+
+        final Variable<Integer> y = context.<Integer>computeVariable("x",
+                (name, oldVariable) -> new AtomicVariable<Integer>(Integer.class, name, oldVariable.getValue() + 1));
+
+        assertEquals((Object) 2, context.get("x"));
+        assertNull(context.<Integer>computeVariable("x", (name, oldVariable) -> null));
+        assertNull(context.getVariable("x"));
+
+        assertTrue(recorder.getEvents().get(0) instanceof Context.VariableAddedEvent<?>);
+        assertTrue(recorder.getEvents().get(1) instanceof Context.VariableRemovedEvent<?>);
+        assertTrue(recorder.getEvents().get(2) instanceof Context.VariableAddedEvent<?>);
+        assertSame(y, ((Context.VariableAddedEvent<?>) recorder.getEvents().get(2)).getVariable());
+        assertTrue(recorder.getEvents().get(3) instanceof Context.VariableRemovedEvent<?>);
+        assertEquals(4, recorder.getEvents().size());
+    }
+
+    @Test
+    public final void testConcurrentAccess() throws InterruptedException {
+        final Context context = new Context();
+        final AtomicInteger creations = new AtomicInteger();
+        final List<Object> addedVariables = Collections.synchronizedList(new ArrayList<Object>());
+        final int threadCount = 8;
+        final int variableCount = 1000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<Thread>();
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+
+        context.addListener(new Listener() {
+
+            @Override
+            public final void variableAdded(final Context.VariableAddedEvent<?> event) {
+                addedVariables.add(event.getVariable());
+            }
+
+            @Override
+            public final void variableRemoved(final Context.VariableRemovedEvent<?> event) {
+                throw new AssertionError();
+            }
+
+        });
+
+        for (int i = 0; i < threadCount; ++i) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+
+                    for (int j = 0; j < variableCount; ++j) {
+                        final Variable<Integer> variable = context.computeVariableIfAbsent("v" + j, name -> {
+                            creations.incrementAndGet();
+
+                            return new AtomicVariable<Integer>(Integer.class, name, 0);
+                        });
+
+                        assertSame(variable, context.getVariable("v" + j));
+                    }
+                } catch (final Throwable exception) {
+                    errors.add(exception);
+                }
+            });
+
+            threads.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(Collections.emptyList(), errors);
+        assertEquals(variableCount, creations.get());
+        assertEquals(variableCount, addedVariables.size());
+
+        int count = 0;
+
+        for (final Variable<?> variable : context) {
+            assertTrue(addedVariables.contains(variable));
+            ++count;
+        }
+
+        assertEquals(variableCount, count);
+    }
+
+    @Test
+    public final void testConcurrentReplacement() throws InterruptedException {
+        final Context context = new Context();
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+        final Thread reader = new Thread(() -> {
+            try {
+                for (int i = 0; i < 100_000; ++i) {
+                    assertNotNull(context.getVariable("x"));
+                }
+            } catch (final Throwable exception) {
+                errors.add(exception);
+            }
+        });
+
+        context.set("x", 0);
+        reader.start();
+
+        for (int i = 1; reader.isAlive(); ++i) {
+            final int value = i;
+
+            if ((i & 1) == 0) {
+                context.putVariable(new AtomicVariable<Integer>(Integer.class, "x", value));
+            } else {
+                context.<Integer>computeVariable("x", (name, oldVariable) -> new AtomicVariable<Integer>(Integer.class, name, value));
+            }
+        }
+
+        reader.join();
+
+        assertEquals(Collections.emptyList(), errors);
+    }
+
+    @Test
+    public final <R extends EventRecorder<?> & Listener> void testParent() {
+        final Context parent = new Context();
+        final Context child = new Context(parent);
+        @SuppressWarnings("unchecked")
+        final R recorder = (R) newEventRecorder(Context.Listener.class);
+
+        parent.set("x", 1);
+        child.addListener(recorder);
+
+        assertSame(parent, child.getParent());
+        assertEquals((Object) 1, child.get("x"));
+        assertNull(child.get("y"));
+
+        parent.set("y", 2);
+
+        assertEquals((Object) 2, child.get("y"));
+
+        child.set("x", 3);
+
+        assertEquals((Object) 3, child.get("x"));
+        assertEquals((Object) 1, parent.get("x"));
+
+        parent.remove("x");
+
+        assertEquals((Object) 3, child.get("x"));
+
+        child.remove("x");
+
+        assertNull(child.get("x"));
+
+        parent.set("x", 4);
+        child.remove("x");
+
+        assertEquals((Object) 4, child.get("x"));
+
+        int count = 0;
+
+        for (final Variable<?> variable : child) {
+            assertSame(parent.getVariable(variable.getName()), variable);
+            ++count;
+        }
+
+        assertEquals(2, count);
+
+        // Inherited y added, inherited x removed, local x added, local x removed, inherited x added
+        assertTrue(recorder.getEvents().get(0) instanceof Context.VariableAddedEvent<?>);
+        assertTrue(recorder.getEvents().get(1) instanceof Context.VariableRemovedEvent<?>);
+        assertTrue(recorder.getEvents().get(2) instanceof Context.VariableAddedEvent<?>);
+        assertTrue(recorder.getEvents().get(3) instanceof Context.VariableRemovedEvent<?>);
+        assertTrue(recorder.getEvents().get(4) instanceof Context.VariableAddedEvent<?>);
+        assertEquals(5, recorder.getEvents().size());
+    }
+
+    @Test(timeout = 20_000L)
+    public final void testParentAndChildUpdates() throws InterruptedException {
+        final Context parent = new Context();
+        final Context child = new Context(parent);
+        final int n = 2_000;
+        final Thread thread = new Thread(() -> {
+            for (int i = 0; i < n; ++i) {
+                parent.set("p" + i, i);
+            }
+        });
+
+        child.addListener(new Listener() {
+
+            @Override
+            public final void variableAdded(final Context.VariableAddedEvent<?> event) {
+                final String name = event.getVariable().getName();
+
+                if (name.startsWith("c")) {
+                    // Writes to the parent while the child is being updated
+                    parent.set("q" + name, 0);
+                }
+            }
+
+            @Override
+            public final void variableRemoved(final Context.VariableRemovedEvent<?> event) {
+                // Deliberately left empty
+            }
+
+        });
+
+        thread.start();
+
+        for (int i = 0; i < n; ++i) {
+            child.set("c" + i, i);
+        }
+
+        thread.join();
+
+        assertEquals((Object) (n - 1), child.get("p" + (n - 1)));
+        assertEquals((Object) 0, child.get("qc" + (n - 1)));
+    }
+
+    @Test
+    public final void testSnapshot() {
+        final Context parent = new Context();
+        final Context child = new Context(parent);
+
+        parent.set("x", 1);
+        child.set("y", 2);
+
+        final Context.Snapshot snapshot = child.snapshot();
+
+        parent.set("z", 3);
+        child.remove("y");
+        child.set("x", 4);
+
+        assertEquals((Object) 1, snapshot.get("x"));
+        assertEquals((Object) 2, snapshot.get("y"));
+        assertNull(snapshot.get("z"));
+        assertEquals((Object) 4, child.get("x"));
+        assertEquals((Object) 3, child.get("z"));
+
+        int count = 0;
+
+        for (final Variable<?> variable : snapshot) {
+            assertSame(snapshot.getVariable(variable.getName()), variable);
+            ++count;
+        }
+
+        assertEquals(2, count);
+    }
+
+    @Test
+    public final void testBindings() {
+        final Map<String, Variable<?>> expected = new HashMap<String, Variable<?>>();
+        Context.Bindings bindings = Context.Bindings.EMPTY;
+        final Context.Bindings empty = bindings;
+
+        // "Aa" and "BB" have the same hash code
+        final String[] names = { "Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa" };
+
+        for (int i = 0; i < 2000; ++i) {
+            final String name = i < names.length ? names[i] : "v" + i;
+            final Variable<Integer> variable = new AtomicVariable<Integer>(Integer.class, name, i);
+
+            expected.put(name, variable);
+            bindings = bindings.plus(name, variable);
+        }
+
+        for (final Map.Entry<String, Variable<?>> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), bindings.get(entry.getKey()));
+        }
+
+        final Context.Bindings full = bindings;
+
+        for (int i = 0; i < 2000; i += 2) {
+            final String name = i < names.length ? names[i] : "v" + i;
+
+            expected.remove(name);
+            bindings = bindings.minus(name);
+        }
+
+        final Map<String, Variable<?>> actual = new HashMap<String, Variable<?>>();
+
+        bindings.forEach(actual::put);
+
+        assertEquals(expected, actual);
+        assertNull(empty.get("Aa"));
+        assertNotNull(full.get("Aa"));
+        assertNull(bindings.get("Aa"));
+        assertNotNull(bindings.get("BB"));
+    }
+
+}
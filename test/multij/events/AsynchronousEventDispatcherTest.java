@@ -0,0 +1,209 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import multij.events.AsynchronousEventDispatcher.Backpressure;
+import multij.events.EventManager.Event.Listener;
+import multij.events.EventsTestingTools.IndexedEvent;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link AsynchronousEventDispatcher}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class AsynchronousEventDispatcherTest {
+	
+	@Test
+	public final void test1() throws Exception {
+		final EventManager eventManager = EventManager.getInstance();
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		final AsynchronousEventDispatcher dispatcher = new AsynchronousEventDispatcher(eventManager, executor, 16, Backpressure.BLOCK);
+		final int sourceCount = 8;
+		final int eventsPerSource = 1_000;
+		final List<Recorder> recorders = new ArrayList<>();
+		final Thread testThread = Thread.currentThread();
+		
+		for (int i = 0; i < sourceCount; ++i) {
+			final Recorder recorder = new Recorder();
+			
+			eventManager.addListener(recorder, IndexedEvent.class, recorder);
+			recorders.add(recorder);
+		}
+		
+		eventManager.setAsynchronousDispatcher(dispatcher);
+		
+		try {
+			for (int i = 0; i < eventsPerSource; ++i) {
+				for (final Recorder recorder : recorders) {
+					new IndexedEvent(recorder, i).fire();
+				}
+			}
+			
+			assertTrue(dispatcher.await(10L, TimeUnit.SECONDS));
+		} finally {
+			eventManager.setAsynchronousDispatcher(null);
+			executor.shutdown();
+		}
+		
+		assertEquals(0L, dispatcher.getPendingEventCount());
+		
+		for (final Recorder recorder : recorders) {
+			assertEquals(eventsPerSource, recorder.getIndices().size());
+			
+			for (int i = 0; i < eventsPerSource; ++i) {
+				assertEquals((Integer) i, recorder.getIndices().get(i));
+			}
+			
+			assertFalse(recorder.getThreads().contains(testThread));
+		}
+	}
+	
+	@Test
+	public final void test2() throws Exception {
+		final EventManager eventManager = EventManager.getInstance();
+		final ManualExecutor executor = new ManualExecutor();
+		final Recorder recorder = new Recorder();
+		
+		eventManager.addListener(recorder, IndexedEvent.class, recorder);
+		
+		{
+			final AsynchronousEventDispatcher dispatcher = new AsynchronousEventDispatcher(eventManager, executor, 2, Backpressure.DROP);
+			
+			for (int i = 0; i < 5; ++i) {
+				dispatcher.dispatch(new IndexedEvent(recorder, i));
+			}
+			
+			assertEquals(3L, dispatcher.getDroppedEventCount());
+			assertEquals(2L, dispatcher.getPendingEventCount());
+			assertEquals(Collections.emptyList(), recorder.getIndices());
+			
+			executor.runAll();
+			dispatcher.flush();
+			
+			assertEquals(list(0, 1), recorder.getIndices());
+		}
+		
+		{
+			final AsynchronousEventDispatcher dispatcher = new AsynchronousEventDispatcher(eventManager, executor, 2, Backpressure.CALLER_RUNS);
+			
+			for (int i = 2; i < 5; ++i) {
+				dispatcher.dispatch(new IndexedEvent(recorder, i));
+			}
+			
+			assertEquals(list(0, 1, 2), recorder.getIndices());
+			assertFalse(dispatcher.await(0L, TimeUnit.SECONDS));
+			
+			executor.runAll();
+			
+			assertTrue(dispatcher.await(0L, TimeUnit.SECONDS));
+			assertEquals(list(0, 1, 2, 3, 4), recorder.getIndices());
+		}
+	}
+	
+	@Test
+	public final void test3() throws Exception {
+		final EventManager eventManager = EventManager.getInstance();
+		final Recorder recorder = new Recorder();
+		final AsynchronousEventDispatcher dispatcher = new AsynchronousEventDispatcher(eventManager, task -> {
+			throw new RejectedExecutionException();
+		}, 2, Backpressure.CALLER_RUNS);
+		
+		eventManager.addListener(recorder, IndexedEvent.class, recorder);
+		
+		for (int i = 0; i < 3; ++i) {
+			dispatcher.dispatch(new IndexedEvent(recorder, i));
+		}
+		
+		assertTrue(dispatcher.await(0L, TimeUnit.SECONDS));
+		assertEquals(3L, dispatcher.getDroppedEventCount());
+		assertEquals(Collections.emptyList(), recorder.getIndices());
+	}
+	
+	private static final List<Integer> list(final Integer... elements) {
+		return Arrays.asList(elements);
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class Recorder {
+		
+		private final List<Integer> indices = Collections.synchronizedList(new ArrayList<Integer>());
+		
+		private final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+		
+		@Listener
+		final void eventFired(final IndexedEvent event) {
+			this.indices.add(event.getIndex());
+			this.threads.add(Thread.currentThread());
+		}
+		
+		final List<Integer> getIndices() {
+			return this.indices;
+		}
+		
+		final List<Thread> getThreads() {
+			return this.threads;
+		}
+		
+	}
+	
+	/**
+	 * Runs its tasks on the test thread when asked.
+	 * 
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class ManualExecutor implements Executor {
+		
+		private final List<Runnable> tasks = new ArrayList<>();
+		
+		@Override
+		public final void execute(final Runnable task) {
+			this.tasks.add(task);
+		}
+		
+		final void runAll() {
+			while (!this.tasks.isEmpty()) {
+				this.tasks.remove(0).run();
+			}
+		}
+		
+	}
+	
+}
@@ -0,0 +1,147 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import multij.events.EventManager.AbstractEvent;
+import multij.events.EventManager.Event.Listener;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link DispatchMetrics}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class DispatchMetricsTest {
+	
+	@Test
+	public final void test1() throws Exception {
+		final List<Object> slowListeners = new ArrayList<>();
+		final DispatchMetrics metrics = new DispatchMetrics(20L, TimeUnit.MILLISECONDS,
+				(eventType, listener, nanos) -> slowListeners.add(listener));
+		final Object source = new Object();
+		final SlowListener listener = new SlowListener();
+		final AtomicVariable<Integer> variable = new AtomicVariable<>(Integer.class, "x", 0);
+		
+		EventManager.getInstance().addListener(source, SomeEvent.class, listener);
+		variable.addListener(event -> { throw new IllegalStateException("Expected"); });
+		
+		DispatchMetrics.setInstance(metrics);
+		
+		try {
+			new SomeEvent(source, false).fire();
+			new SomeEvent(source, true).fire();
+			variable.setValue(1);
+		} finally {
+			DispatchMetrics.setInstance(null);
+			EventManager.getInstance().removeListener(source, SomeEvent.class, listener);
+		}
+		
+		new SomeEvent(source, false).fire();
+		
+		assertEquals(1L, metrics.getSlowInvocationCount());
+		assertEquals(1, slowListeners.size());
+		assertSame(listener, slowListeners.get(0));
+		
+		final DispatchMetrics.Entry[] entries = metrics.getEntries();
+		
+		assertEquals(2, entries.length);
+		
+		for (final DispatchMetrics.Entry entry : entries) {
+			if (entry.getEventType().equals(SomeEvent.class.getName())) {
+				assertEquals(SlowListener.class.getName(), entry.getListenerType());
+				assertEquals(2L, entry.getInvocationCount());
+				assertTrue(TimeUnit.MILLISECONDS.toNanos(20L) < entry.getMaximumNanos());
+				assertTrue(entry.getMaximumNanos() <= entry.getTotalNanos());
+				assertEquals(0L, entry.getExceptionCount());
+			} else {
+				assertEquals(AtomicVariable.ValueChangedEvent.class.getName(), entry.getEventType());
+				assertEquals(1L, entry.getInvocationCount());
+				assertEquals(1L, entry.getExceptionCount());
+			}
+		}
+		
+		final ObjectName name = metrics.registerMBean("test");
+		
+		try {
+			assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "SlowInvocationCount"));
+			assertEquals(2, ((CompositeData[]) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Entries")).length);
+			
+			ManagementFactory.getPlatformMBeanServer().invoke(name, "reset", null, null);
+			
+			assertEquals(0, metrics.getEntries().length);
+		} finally {
+			DispatchMetrics.unregisterMBean(name);
+		}
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class SomeEvent extends AbstractEvent<Object> {
+		
+		private final boolean slow;
+		
+		SomeEvent(final Object source, final boolean slow) {
+			super(source);
+			this.slow = slow;
+		}
+		
+		public final boolean isSlow() {
+			return this.slow;
+		}
+		
+		/**
+		 * {@value}.
+		 */
+		private static final long serialVersionUID = 3312578542372938093L;
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class SlowListener {
+		
+		@Listener
+		final void eventFired(final SomeEvent event) throws InterruptedException {
+			if (event.isSlow()) {
+				Thread.sleep(40L);
+			}
+		}
+		
+	}
+	
+}
@@ -0,0 +1,62 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link DoubleVariable}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class DoubleVariableTest {
+	
+	@Test
+	public final void test1() {
+		final DoubleVariable x = new DoubleVariable("x", 0.5);
+		final List<String> changes = new ArrayList<>();
+		
+		x.addListener((variable, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+		
+		assertEquals(0.5, x.getAndAdd(1.0), 0.0);
+		assertEquals(3.0, x.accumulateAndGet(2.0, (a, b) -> a * b), 0.0);
+		assertTrue(x.compareAndSet(3.0, -0.0));
+		assertFalse(x.compareAndSet(0.0, 1.0));
+		
+		x.set(-0.0);
+		x.set(Double.NaN);
+		x.set(Double.NaN);
+		
+		assertTrue(Double.isNaN(x.asVariable().getValue()));
+		assertEquals(Arrays.asList("0.5->1.5", "1.5->3.0", "3.0->-0.0", "-0.0->NaN"), changes);
+	}
+	
+}
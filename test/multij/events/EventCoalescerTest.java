@@ -0,0 +1,125 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import multij.events.EventManager.Event.Listener;
+import multij.events.EventsTestingTools.IndexedEvent;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link EventCoalescer}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class EventCoalescerTest {
+	
+	@Test
+	public final void test1() {
+		final EventCoalescer coalescer = new EventCoalescer();
+		final Object source = new Object();
+		final List<Integer> delivered = new ArrayList<>();
+		final List<List<IndexedEvent>> batches = new ArrayList<>();
+		final Object listener = new Object() {
+			
+			@Listener
+			final void eventFired(final IndexedEvent event) {
+				delivered.add(event.getIndex());
+			}
+			
+		};
+		
+		EventManager.getInstance().addListener(source, IndexedEvent.class, listener);
+		coalescer.addBatchListener(source, IndexedEvent.class, batches::add);
+		
+		for (int i = 0; i < 1_000; ++i) {
+			coalescer.fireLater(new IndexedEvent(source, i));
+		}
+		
+		assertEquals(1, coalescer.getPendingCount());
+		assertTrue(delivered.isEmpty());
+		
+		coalescer.tick();
+		
+		assertEquals(0, coalescer.getPendingCount());
+		assertEquals(Arrays.asList(999), delivered);
+		assertEquals(1, batches.size());
+		assertEquals(1_000, batches.get(0).size());
+		assertEquals(0, batches.get(0).get(0).getIndex());
+		
+		coalescer.tick();
+		
+		assertEquals(1, delivered.size());
+		
+		EventManager.getInstance().removeListener(source, IndexedEvent.class, listener);
+	}
+	
+	@Test
+	public final void test2() {
+		final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+		
+		try {
+			// The delay is long enough for the scheduled tick to never run during the test
+			final EventCoalescer coalescer = new EventCoalescer(scheduler, 1L, TimeUnit.HOURS);
+			final AtomicVariable<Integer> variable = new AtomicVariable<>(Integer.class, "x", 0);
+			final List<Integer> values = new ArrayList<>();
+			
+			variable.addListener(coalescer.newCoalescingListener(new Variable.Listener<Integer>() {
+				
+				@Override
+				public final void valueChanged(final Variable.ValueChangedEvent<Integer, ?> event) {
+					values.add(event.getNewValue());
+				}
+				
+			}));
+			
+			for (int i = 1; i <= 100; ++i) {
+				variable.setValue(i);
+			}
+			
+			assertEquals(1, scheduler.getQueue().size());
+			assertTrue(values.isEmpty());
+			
+			coalescer.tick();
+			
+			assertEquals(Arrays.asList(100), values);
+			
+			variable.setValue(101);
+			
+			assertEquals(2, scheduler.getQueue().size());
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+	
+}
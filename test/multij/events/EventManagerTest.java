@@ -25,10 +25,18 @@
 package multij.events;
 
 import static multij.tools.Tools.ignore;
+import static multij.tools.Tools.set;
 import multij.events.EventManager;
 import multij.events.EventManager.AbstractEvent;
 import multij.events.EventManager.Event.Listener;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -86,6 +94,199 @@ public final class EventManagerTest {
         Assert.assertEquals(3, eventCount[0]);
     }
     
+    @Test
+    public final void test2() throws Exception {
+        final AtomicInteger eventCount = new AtomicInteger();
+        
+        final class SomeListener {
+            
+            @Listener
+            final void someEventHappened(final SomeEvent event) {
+                ignore(event);
+                eventCount.incrementAndGet();
+            }
+            
+        }
+        
+        final Object source = new Object();
+        final Object listener = new SomeListener();
+        final EventManager eventManager = EventManager.getInstance();
+        
+        eventManager.addListener(source, SomeEvent.class, listener);
+        
+        Assert.assertArrayEquals(new Object[] { listener }, eventManager.getListeners(source, SomeEvent.class));
+        
+        final int threadCount = 4;
+        final int eventsPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final List<Future<?>> tasks = new ArrayList<>();
+        
+        try {
+            for (int i = 0; i < threadCount; ++i) {
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < eventsPerThread; ++j) {
+                        new SomeEvent(source).fire();
+                    }
+                }));
+            }
+            
+            // Registrations during dispatch must neither block nor disturb the other listeners
+            for (int i = 0; i < 100; ++i) {
+                final Object otherListener = new SomeListener();
+                
+                eventManager.addListener(new Object(), SomeEvent.class, otherListener);
+            }
+            
+            for (final Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        
+        Assert.assertEquals(threadCount * eventsPerThread, eventCount.get());
+        
+        eventManager.removeListener(source, SomeEvent.class, listener);
+        new SomeEvent(source).fire();
+        
+        Assert.assertEquals(threadCount * eventsPerThread, eventCount.get());
+        Assert.assertArrayEquals(new Object[0], eventManager.getListeners(source, SomeEvent.class));
+    }
+    
+    @Test
+    public final void test3() {
+        final class SomeOtherEvent extends SomeEvent {
+            
+            SomeOtherEvent(final Object source) {
+                super(source);
+            }
+            
+            /**
+             * {@value}.
+             */
+            private static final long serialVersionUID = -4467606339419432437L;
+            
+        }
+        
+        final List<String> calls = new ArrayList<>();
+        
+        final class SomeListener {
+            
+            @Listener
+            final void someEventHappened(final SomeEvent event) {
+                calls.add("some:" + event.getClass().getSimpleName());
+            }
+            
+            @Listener
+            final void someOtherEventHappened(final SomeOtherEvent event) {
+                calls.add("other:" + event.getClass().getSimpleName());
+            }
+            
+        }
+        
+        final Object source = new Object();
+        final Object listener = new SomeListener();
+        final EventManager eventManager = EventManager.getInstance();
+        
+        eventManager.addListener(source, SomeEvent.class, listener);
+        
+        new SomeEvent(source).fire();
+        new SomeOtherEvent(source).fire();
+        
+        Assert.assertEquals(3, calls.size());
+        Assert.assertEquals(1, eventManager.getListeners(source, SomeOtherEvent.class).length);
+        
+        // The cached dispatch tables must be invalidated by registration changes
+        eventManager.removeListener(source, SomeOtherEvent.class, listener);
+        new SomeOtherEvent(source).fire();
+        
+        Assert.assertEquals(4, calls.size());
+        Assert.assertEquals(set("some:SomeEvent", "some:SomeOtherEvent", "other:SomeOtherEvent"), set(calls.subList(0, 3).toArray()));
+        Assert.assertEquals("some:SomeOtherEvent", calls.get(3));
+        
+        eventManager.removeListener(source, SomeEvent.class, listener);
+    }
+    
+    @Test
+    public final void test4() {
+        final class SomeListener {
+            
+            @Listener
+            final void someEventHappened(final SomeEvent event) {
+                ignore(event);
+            }
+            
+        }
+        
+        final EventManager eventManager = EventManager.getInstance();
+        final long reclaimedSourceCount = eventManager.getReclaimedSourceCount();
+        final long reclaimedListenerCount = eventManager.getReclaimedListenerCount();
+        final Object source1 = new Object();
+        Object source2 = new Object();
+        
+        for (int i = 0; i < 100; ++i) {
+            eventManager.addWeakListener(source1, SomeEvent.class, new SomeListener());
+        }
+        
+        eventManager.addListener(source2, SomeEvent.class, new SomeListener());
+        
+        Assert.assertTrue(2 <= eventManager.getSourceCount());
+        Assert.assertTrue(101 <= eventManager.getRegistrationCount());
+        
+        source2 = null;
+        
+        // The cleaner thread prunes the registry without any other call to the event manager
+        for (int i = 0; i < 50 && (eventManager.getReclaimedSourceCount() < reclaimedSourceCount + 1
+                || eventManager.getReclaimedListenerCount() < reclaimedListenerCount + 100); ++i) {
+            gc();
+        }
+        
+        Assert.assertTrue(reclaimedSourceCount + 1 <= eventManager.getReclaimedSourceCount());
+        Assert.assertTrue(reclaimedListenerCount + 100 <= eventManager.getReclaimedListenerCount());
+        Assert.assertEquals(0, eventManager.getListeners(source1, SomeEvent.class).length);
+    }
+    
+    @Test
+    public final void test5() throws Exception {
+        final class SomeListener {
+            
+            @Listener
+            final void someEventHappened(final SomeEvent event) {
+                ignore(event);
+            }
+            
+        }
+        
+        final EventManager eventManager = EventManager.getInstance();
+        final int threadCount = 4;
+        final int listenersPerThread = 1_000;
+        
+        for (int k = 0; k < 10; ++k) {
+            final Object source = new Object();
+            final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            final List<Future<?>> tasks = new ArrayList<>();
+            
+            try {
+                // Concurrent first registrations must not lose each other
+                for (int i = 0; i < threadCount; ++i) {
+                    tasks.add(executor.submit(() -> {
+                        for (int j = 0; j < listenersPerThread; ++j) {
+                            eventManager.addListener(source, SomeEvent.class, new SomeListener());
+                        }
+                    }));
+                }
+                
+                for (final Future<?> task : tasks) {
+                    task.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            
+            Assert.assertEquals(threadCount * listenersPerThread, eventManager.getListeners(source, SomeEvent.class).length);
+        }
+    }
+    
     public static final void gc() {
         System.gc();
         
@@ -96,4 +297,20 @@ public final class EventManagerTest {
         }
     }
     
+    /**
+     * @author codistmonk (creation 2026-10-19)
+     */
+    static class SomeEvent extends AbstractEvent<Object> {
+        
+        SomeEvent(final Object source) {
+            super(source);
+        }
+        
+        /**
+         * {@value}.
+         */
+        private static final long serialVersionUID = 2165530476937364612L;
+        
+    }
+    
 }
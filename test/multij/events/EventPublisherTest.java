@@ -0,0 +1,188 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import multij.events.EventPublisher.Overflow;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link EventPublisher}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class EventPublisherTest {
+	
+	@Test
+	public final void test1() {
+		final AtomicVariable<Integer> variable = new AtomicVariable<Integer>(Integer.class, "x", 0);
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		final EventPublisher<Variable.ValueChangedEvent> publisher = EventPublisher.of(
+				variable, (Class) Variable.Listener.class, Variable.ValueChangedEvent.class, Runnable::run, 2, Overflow.DROP_OLDEST);
+		final Recorder recorder = new Recorder();
+		
+		publisher.subscribe(recorder);
+		
+		assertEquals(1, publisher.getSubscriberCount());
+		assertTrue(variable.getListeners().iterator().hasNext());
+		
+		for (int i = 1; i <= 5; ++i) {
+			variable.setValue(i);
+		}
+		
+		// Nothing requested: only the last 2 events are buffered
+		assertEquals(Collections.emptyList(), recorder.values);
+		assertEquals(3L, publisher.getDroppedEventCount());
+		
+		recorder.subscription.request(1L);
+		
+		assertEquals(Collections.singletonList(4), recorder.values);
+		
+		recorder.subscription.request(10L);
+		variable.setValue(6);
+		
+		assertEquals(List.of(4, 5, 6), recorder.values);
+		
+		recorder.subscription.cancel();
+		
+		assertEquals(0, publisher.getSubscriberCount());
+		assertFalse(variable.getListeners().iterator().hasNext());
+	}
+	
+	@Test
+	public final void test2() {
+		final Object source = new Object();
+		final EventPublisher<EventManagerTest.SomeEvent> publisher = EventPublisher.of(
+				EventManager.getInstance(), source, EventManagerTest.SomeEvent.class, Runnable::run, 1, Overflow.ERROR);
+		final Recorder recorder = new Recorder();
+		
+		publisher.subscribe(recorder);
+		recorder.subscription.request(1L);
+		
+		new EventManagerTest.SomeEvent(source).fire();
+		
+		assertEquals(1, recorder.events.size());
+		
+		new EventManagerTest.SomeEvent(source).fire();
+		new EventManagerTest.SomeEvent(source).fire();
+		
+		assertEquals(1, recorder.events.size());
+		assertTrue(recorder.error instanceof IllegalStateException);
+		assertEquals(0, EventManager.getInstance().getListeners(source, EventManagerTest.SomeEvent.class).length);
+	}
+	
+	@Test
+	public final void test3() throws InterruptedException {
+		final AtomicVariable<Integer> variable = new AtomicVariable<Integer>(Integer.class, "x", 0);
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		
+		try {
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			final EventPublisher<Variable.ValueChangedEvent> publisher = EventPublisher.of(
+					variable, (Class) Variable.Listener.class, Variable.ValueChangedEvent.class, executor, 1000, Overflow.DROP_NEWEST);
+			final Recorder recorder = new Recorder();
+			final int n = 1000;
+			
+			recorder.requestAll = true;
+			publisher.subscribe(recorder);
+			
+			for (int i = 1; i <= n; ++i) {
+				variable.setValue(i);
+			}
+			
+			publisher.close();
+			
+			assertTrue(recorder.done.await(10L, TimeUnit.SECONDS));
+			assertNull(recorder.error);
+			assertEquals(n - publisher.getDroppedEventCount(), recorder.values.size());
+			
+			for (int i = 1; i < recorder.values.size(); ++i) {
+				assertTrue((Integer) recorder.values.get(i - 1) < (Integer) recorder.values.get(i));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class Recorder implements Flow.Subscriber<Object> {
+		
+		final List<Object> events = Collections.synchronizedList(new ArrayList<Object>());
+		
+		final List<Object> values = Collections.synchronizedList(new ArrayList<Object>());
+		
+		final CountDownLatch done = new CountDownLatch(1);
+		
+		volatile Flow.Subscription subscription;
+		
+		volatile Throwable error;
+		
+		boolean requestAll;
+		
+		@Override
+		public final void onSubscribe(final Flow.Subscription subscription) {
+			this.subscription = subscription;
+			
+			if (this.requestAll) {
+				subscription.request(Long.MAX_VALUE);
+			}
+		}
+		
+		@Override
+		public final void onNext(final Object item) {
+			this.events.add(item);
+			
+			if (item instanceof Variable.ValueChangedEvent) {
+				this.values.add(((Variable.ValueChangedEvent<?, ?>) item).getNewValue());
+			}
+		}
+		
+		@Override
+		public final void onError(final Throwable error) {
+			this.error = error;
+			this.done.countDown();
+		}
+		
+		@Override
+		public final void onComplete() {
+			this.done.countDown();
+		}
+		
+	}
+	
+}
@@ -0,0 +1,165 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link IntVariable}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class IntVariableTest {
+	
+	@Test
+	public final void test1() {
+		final IntVariable x = new IntVariable("x", 42);
+		final List<String> changes = new ArrayList<>();
+		final IntVariable.Listener listener = (variable, oldValue, newValue) -> changes.add(oldValue + "->" + newValue);
+		
+		x.addListener(listener);
+		
+		x.set(42);
+		x.set(33);
+		
+		assertFalse(x.compareAndSet(42, 1));
+		assertTrue(x.compareAndSet(33, 1));
+		assertEquals(1, x.getAndAdd(2));
+		assertEquals(4, x.incrementAndGet());
+		assertEquals(40, x.accumulateAndGet(10, (a, b) -> a * b));
+		assertEquals(41, x.updateAndGet(v -> v + 1));
+		assertEquals(41, x.get());
+		assertEquals(list("42->33", "33->1", "1->3", "3->4", "4->40", "40->41"), changes);
+		
+		x.removeListener(listener);
+		x.set(0);
+		
+		assertEquals(6, changes.size());
+	}
+	
+	@Test
+	public final void test2() {
+		final IntVariable x = new IntVariable("x", 1);
+		final Variable<Integer> variable = x.asVariable();
+		final List<String> changes = new ArrayList<>();
+		
+		assertSame(variable, x.asVariable());
+		assertEquals(Integer.class, variable.getType());
+		assertEquals("x", variable.getName());
+		
+		variable.addListener(event -> changes.add(event.getOldValue() + "->" + event.getNewValue()));
+		
+		x.set(2);
+		variable.setValue(3);
+		
+		assertEquals((Integer) 3, variable.getValue());
+		assertEquals(list("1->2", "2->3"), changes);
+	}
+	
+	@Test
+	public final void test3() throws Exception {
+		final IntVariable counter = new IntVariable("counter", 0);
+		final LongAdder notifiedDelta = new LongAdder();
+		final int threadCount = 4;
+		final int n = 10_000;
+		final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		final List<Future<?>> tasks = new ArrayList<>();
+		
+		counter.addListener((variable, oldValue, newValue) -> notifiedDelta.add(newValue - oldValue));
+		
+		try {
+			for (int i = 0; i < threadCount; ++i) {
+				tasks.add(executor.submit(() -> {
+					for (int j = 0; j < n; ++j) {
+						counter.incrementAndGet();
+					}
+				}));
+			}
+			
+			for (final Future<?> task : tasks) {
+				task.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertEquals(threadCount * n, counter.get());
+		assertEquals(threadCount * n, notifiedDelta.sum());
+	}
+	
+	@Test
+	public final void test4() {
+		final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		
+		if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+			return;
+		}
+		
+		final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		final long threadId = Thread.currentThread().getId();
+		final IntVariable x = new IntVariable("x", 0);
+		final int[] count = { 0 };
+		
+		x.addListener((variable, oldValue, newValue) -> ++count[0]);
+		// A view without listeners must not box the values
+		x.asVariable();
+		
+		for (int i = 0; i < 100000; ++i) {
+			x.updateAndGet(v -> v + 1);
+			x.getAndAdd(-1);
+			x.addAndGet(1);
+		}
+		
+		final long before = allocations.getThreadAllocatedBytes(threadId);
+		
+		for (int i = 0; i < 100000; ++i) {
+			x.updateAndGet(v -> v + 1);
+			x.getAndAdd(-1);
+			x.addAndGet(1);
+		}
+		
+		final long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+		
+		assertEquals(600000, count[0]);
+		// Allows for the measurement itself, but not for one allocation per update
+		assertTrue("Allocated: " + allocated, allocated < 10000L);
+	}
+	
+	private static final List<String> list(final String... elements) {
+		return Arrays.asList(elements);
+	}
+	
+}
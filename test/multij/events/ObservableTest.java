@@ -25,9 +25,19 @@
 package multij.events;
 
 import static multij.events.EventsTestingTools.*;
+import static multij.tools.Tools.ignore;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import multij.events.AbstractObservable;
 import multij.events.Observable;
@@ -63,6 +73,146 @@ public final class ObservableTest {
 		assertEquals(1, recorder2.getEvents().size());
 	}
 
+	@Test
+	public final void testRemoveListenerWhileFiring() {
+		final DummyObservable observable = new DummyObservable();
+		final int[] notificationCounts = new int[2];
+		
+		observable.addListener(new DummyObservable.Listener() {
+			
+			@Override
+			public final void eventFired(final DummyObservable.EventFiredEvent event) {
+				++notificationCounts[0];
+				observable.removeListener(this);
+			}
+			
+			private static final long serialVersionUID = -2883718934227346113L;
+			
+		});
+		observable.addListener(new DummyObservable.Listener() {
+			
+			@Override
+			public final void eventFired(final DummyObservable.EventFiredEvent event) {
+				++notificationCounts[1];
+			}
+			
+			private static final long serialVersionUID = 5187458613094834112L;
+			
+		});
+		
+		// The listeners of an event are those registered when it is fired
+		observable.fireNewEvent();
+		observable.fireNewEvent();
+		
+		assertArrayEquals(new int[] { 1, 2 }, notificationCounts);
+		assertEquals(1, count(observable.getListeners()));
+	}
+	
+	private static final int count(final Iterable<?> elements) {
+		int result = 0;
+		
+		for (final Object element : elements) {
+			ignore(element);
+			++result;
+		}
+		
+		return result;
+	}
+	
+	@Test
+	public final void testRearm() {
+		final DummyObservable observable = new DummyObservable();
+		final AtomicLong clock = new AtomicLong(42L);
+		final AtomicInteger count = new AtomicInteger();
+		final DummyObservable.EventFiredEvent event = observable.new EventFiredEvent(clock::incrementAndGet);
+		
+		observable.addListener(e -> {
+			assertSame(event, e);
+			count.incrementAndGet();
+			e.setInterrupted(true);
+		});
+		observable.addListener(e -> fail());
+		
+		assertEquals(43L, event.getTime());
+		
+		event.fire();
+		
+		assertEquals(1, count.get());
+		
+		try {
+			event.fire();
+			fail();
+		} catch (final IllegalStateException exception) {
+			ignore(exception);
+		}
+		
+		event.rearm().fire();
+		
+		assertEquals(2, count.get());
+		assertEquals(44L, event.getTime());
+		assertEquals(0L, observable.new EventFiredEvent(null).rearm().getTime());
+	}
+	
+	@Test
+	public final void testSerializedClock() throws Exception {
+		final DummyObservable observable = new DummyObservable();
+		final DummyObservable.EventFiredEvent timestamped = copy(observable.new EventFiredEvent(() -> 42L));
+		final DummyObservable.EventFiredEvent untimestamped = copy(observable.new EventFiredEvent(null));
+		
+		assertEquals(42L, timestamped.getTime());
+		
+		// The custom clock is lost, but the event keeps a clock
+		assertTrue(42L < timestamped.rearm().getTime());
+		assertEquals(0L, untimestamped.rearm().getTime());
+	}
+	
+	@Test
+	public final void testAllocationFreeFiring() {
+		final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		
+		if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+			return;
+		}
+		
+		final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		final long threadId = Thread.currentThread().getId();
+		final DummyObservable observable = new DummyObservable();
+		final int[] count = { 0 };
+		final DummyObservable.EventFiredEvent event = observable.new EventFiredEvent(null);
+		
+		observable.addListener(e -> ++count[0]);
+		observable.addListener(e -> ++count[0]);
+		
+		for (int i = 0; i < 100000; ++i) {
+			event.rearm().fire();
+		}
+		
+		final long before = allocations.getThreadAllocatedBytes(threadId);
+		
+		for (int i = 0; i < 100000; ++i) {
+			event.rearm().fire();
+		}
+		
+		final long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+		
+		assertEquals(400000, count[0]);
+		// Allows for the measurement itself, but not for one allocation per event
+		assertTrue("Allocated: " + allocated, allocated < 10000L);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static final <T> T copy(final T object) throws IOException, ClassNotFoundException {
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		
+		try (final ObjectOutputStream output = new ObjectOutputStream(buffer)) {
+			output.writeObject(object);
+		}
+		
+		try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			return (T) input.readObject();
+		}
+	}
+	
 	/**
 	 *
 	 * @author codistmonk (creation 2010-06-23)
@@ -106,6 +256,14 @@ public final class ObservableTest {
 		 */
 		public final class EventFiredEvent extends AbstractEvent<DummyObservable, Listener> {
 
+			EventFiredEvent() {
+				// Deliberately left empty
+			}
+
+			EventFiredEvent(final LongSupplier clock) {
+				super(clock);
+			}
+
 			@Override
 			protected final void notifyListener(final Listener listener) {
 				listener.eventFired(this);
@@ -0,0 +1,246 @@
+/*
+ *  The MIT License
+ * 
+ *  Copyright 2026 Codist Monk.
+ * 
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ * 
+ *  The above copyright notice and this permission notice shall be included in
+ *  all copies or substantial portions of the Software.
+ * 
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  THE SOFTWARE.
+ */
+
+package multij.events;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link RingEventBus}.
+ *
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class RingEventBusTest {
+	
+	@Test
+	public final void test1() {
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		
+		try {
+			final RingEventBus<LongSlot> bus = new RingEventBus<>(LongSlot::new, 64, false);
+			final Summer summer1 = new Summer();
+			final Summer summer2 = new Summer();
+			final int n = 100_000;
+			
+			bus.addHandler(summer1).addHandler(summer2).start(executor);
+			
+			for (int i = 1; i <= n; ++i) {
+				bus.publish(LongSlot::setValue, i);
+			}
+			
+			bus.halt();
+			
+			assertEquals((long) n * (n + 1) / 2, summer1.getSum());
+			assertEquals(summer1.getSum(), summer2.getSum());
+			assertEquals(n, summer1.getCount());
+			assertTrue(summer1.isOrdered());
+			assertTrue(0 < summer1.getBatchCount());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public final void test2() throws Exception {
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		
+		try {
+			final RingEventBus<LongSlot> bus = new RingEventBus<>(LongSlot::new, 16, true);
+			final Summer summer = new Summer();
+			final int producerCount = 4;
+			final int n = 25_000;
+			final List<Future<?>> producers = new ArrayList<>();
+			
+			bus.addHandler(summer).start(executor);
+			
+			for (int i = 0; i < producerCount; ++i) {
+				producers.add(executor.submit(() -> {
+					for (int j = 1; j <= n; ++j) {
+						final long sequence = bus.next();
+						
+						bus.get(sequence).setValue(j);
+						bus.publish(sequence);
+					}
+				}));
+			}
+			
+			for (final Future<?> producer : producers) {
+				producer.get();
+			}
+			
+			bus.halt();
+			
+			assertEquals((long) producerCount * n * (n + 1) / 2, summer.getSum());
+			assertEquals(producerCount * n, summer.getCount());
+			assertTrue(summer.isOrdered());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public final void test3() {
+		new RingEventBus<>(LongSlot::new, 12, false);
+	}
+	
+	@Test
+	public final void test4() {
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		
+		try {
+			final RingEventBus<LongSlot> bus = new RingEventBus<>(LongSlot::new, 4, false);
+			final Summer summer = new Summer();
+			final int n = 100;
+			
+			bus.addHandler((event, sequence, endOfBatch) -> {
+				if (sequence % 10L == 0L) {
+					throw new AssertionError("Expected failure " + sequence);
+				}
+			}).addHandler(summer).start(executor);
+			
+			for (int i = 1; i <= n; ++i) {
+				bus.publish(LongSlot::setValue, i);
+			}
+			
+			bus.halt();
+			
+			assertEquals(n, summer.getCount());
+			
+			try {
+				bus.next();
+				fail();
+			} catch (final IllegalStateException exception) {
+				assertEquals("Halted", exception.getMessage());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public final void test5() {
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		
+		try {
+			final RingEventBus<LongSlot> bus = new RingEventBus<>(LongSlot::new, 64, false);
+			final Summer summer = new Summer();
+			final int n = 100;
+			
+			bus.addHandler((event, sequence, endOfBatch) -> {
+				try {
+					// Slow enough for events to be pending when halt() is called
+					Thread.sleep(1L);
+				} catch (final InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+			}).addHandler(summer);
+			
+			for (int k = 1; k <= 2; ++k) {
+				bus.start(executor);
+				
+				for (int i = 1; i <= n; ++i) {
+					bus.publish(LongSlot::setValue, i);
+				}
+				
+				bus.halt();
+				
+				assertEquals(k * n, summer.getCount());
+				assertTrue(summer.isOrdered());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class LongSlot {
+		
+		private long value;
+		
+		final long getValue() {
+			return this.value;
+		}
+		
+		final void setValue(final long value) {
+			this.value = value;
+		}
+		
+	}
+	
+	/**
+	 * @author codistmonk (creation 2026-10-19)
+	 */
+	static final class Summer implements RingEventBus.Handler<LongSlot> {
+		
+		private long sum;
+		
+		private int count;
+		
+		private int batchCount;
+		
+		private long lastSequence = -1L;
+		
+		private boolean ordered = true;
+		
+		@Override
+		public final void onEvent(final LongSlot event, final long sequence, final boolean endOfBatch) {
+			this.sum += event.getValue();
+			++this.count;
+			this.ordered &= sequence == this.lastSequence + 1L;
+			this.lastSequence = sequence;
+			
+			if (endOfBatch) {
+				++this.batchCount;
+			}
+		}
+		
+		final long getSum() {
+			return this.sum;
+		}
+		
+		final int getCount() {
+			return this.count;
+		}
+		
+		final int getBatchCount() {
+			return this.batchCount;
+		}
+		
+		final boolean isOrdered() {
+			return this.ordered;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,98 @@
+package multij.rules;
+
+import static multij.tools.Tools.ignore;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link Bindings}.
+ * 
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class BindingsTest {
+	
+	@Test
+	public final void test1() {
+		final List<Variable> variables = new ArrayList<>();
+		final Map<Variable, Object> expected = new HashMap<>();
+		final Bindings bindings = new Bindings();
+		
+		for (int i = 0; i < 1000; ++i) {
+			variables.add(Variable.var());
+		}
+		
+		for (int i = 0; i < 500; ++i) {
+			bindings.put(variables.get(i), i);
+			expected.put(variables.get(i), i);
+		}
+		
+		final int mark = bindings.mark();
+		
+		for (int i = 250; i < 1000; ++i) {
+			bindings.put(variables.get(i), -i);
+		}
+		
+		for (int i = 0; i < 1000; i += 3) {
+			bindings.remove(variables.get(i));
+		}
+		
+		assertFalse(expected.equals(bindings));
+		
+		bindings.undo(mark);
+		
+		assertEquals(expected, bindings);
+		assertEquals(expected, new HashMap<>(bindings));
+		assertNull(bindings.get(variables.get(999)));
+		
+		bindings.clear();
+		
+		assertTrue(bindings.isEmpty());
+		
+		bindings.undo(mark);
+		
+		assertEquals(expected, bindings);
+		
+		bindings.undo(0);
+		
+		assertTrue(bindings.isEmpty());
+	}
+	
+	@Test
+	public final void test2() {
+		final Variable x = Variable.var("x");
+		final Bindings bindings = new Bindings();
+		
+		bindings.put(x, 1);
+		
+		final Iterator<Map.Entry<Variable, Object>> i = bindings.entrySet().iterator();
+		final Map.Entry<Variable, Object> entry = i.next();
+		
+		try {
+			entry.setValue(2);
+			fail();
+		} catch (final UnsupportedOperationException exception) {
+			ignore(exception);
+		}
+		
+		try {
+			i.remove();
+			fail();
+		} catch (final UnsupportedOperationException exception) {
+			ignore(exception);
+		}
+		
+		assertEquals(1, bindings.get(x));
+	}
+	
+}
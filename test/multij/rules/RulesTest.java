@@ -55,6 +55,28 @@ public final class RulesTest {
 		assertEquals("v", m.get(v));
 	}
 	
+	@Test
+	public final void test3() {
+		final Variable x = Variable.var("x");
+		final Variable y = Variable.var("y");
+		final Rules<Object, Object> rules = new Rules<>();
+		
+		// The first rule binds x before failing on the second element
+		rules.add(PatternPredicate.matchWith(Arrays.asList(x, "+", x), (e, m) -> Arrays.asList(2, "*", m.get(x))));
+		rules.add(PatternPredicate.matchWith(Arrays.asList(y, "+", x), (e, m) -> Arrays.asList(m.get(y), m.get(x))));
+		
+		assertEquals(Arrays.asList(2, "*", "a"), rules.applyTo(Arrays.asList("a", "+", "a")));
+		assertEquals(Arrays.asList("a", "b"), rules.applyTo(Arrays.asList("a", "+", "b")));
+		assertEquals(Arrays.asList("a", "b"), rules.applyTo(Arrays.asList("a", "+", "b"), new HashMap<>()));
+		
+		final Bindings bindings = new Bindings();
+		
+		assertEquals(Arrays.asList("a", "b"), rules.applyTo(Arrays.asList("a", "+", "b"), bindings));
+		assertEquals("a", bindings.get(y));
+		assertEquals("b", bindings.get(x));
+		assertEquals(2, bindings.size());
+	}
+	
 	public static final boolean isScalarBinaryOperation(final Object operator,
 			final Object expression, final ExpressionContext context) {
 		return isBinaryOperation(operator, expression)
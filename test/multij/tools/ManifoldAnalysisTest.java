@@ -0,0 +1,75 @@
+package multij.tools;
+
+import static multij.tools.Manifold.opposite;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link ManifoldAnalysis}.
+ * 
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ManifoldAnalysisTest {
+	
+	@Test
+	public final void test1() {
+		final Manifold m = new Manifold();
+		final int triangle = newTriangle(m);
+		final int torus = newTorus(m);
+		
+		for (final boolean parallel : new boolean[] { false, true }) {
+			final ManifoldAnalysis analysis = new ManifoldAnalysis(m, null, parallel);
+			
+			assertEquals(10, analysis.getDartCount());
+			assertEquals(2, analysis.getComponentCount());
+			assertEquals(4, analysis.getVertexCount());
+			assertEquals(5, analysis.getEdgeCount());
+			assertEquals(3, analysis.getFaceCount());
+			assertEquals(2, analysis.getEulerCharacteristic());
+			
+			final int c1 = analysis.getComponent(triangle);
+			final int c2 = analysis.getComponent(torus);
+			
+			assertNotEquals(c1, c2);
+			assertEquals(c1, analysis.getComponent(opposite(triangle)));
+			assertEquals(c2, analysis.getComponent(m.getNext(torus)));
+			assertEquals(2, analysis.getEulerCharacteristic(c1));
+			assertEquals(0, analysis.getGenus(c1));
+			assertEquals(0, analysis.getEulerCharacteristic(c2));
+			assertEquals(1, analysis.getGenus(c2));
+		}
+	}
+	
+	@Test
+	public final void test2() {
+		final Manifold m = new Manifold();
+		final int ab = newTriangle(m);
+		final ManifoldAnalysis analysis = new ManifoldAnalysis(m, d -> d == opposite(ab), false);
+				
+		assertEquals(1, analysis.getBoundaryCount());
+		assertEquals(1, analysis.getEulerCharacteristic());
+		assertEquals(0, analysis.getGenus(0));
+	}
+	
+	private static final int newTriangle(final Manifold m) {
+		final int ab = m.newEdge();
+		final int bc = m.newEdge();
+		final int ca = m.newEdge();
+		
+		m.setCycle(ab, bc, ca);
+		m.setCycle(opposite(ab), opposite(ca), opposite(bc));
+		
+		return ab;
+	}
+	
+	private static final int newTorus(final Manifold m) {
+		final int a = m.newEdge();
+		final int b = m.newEdge();
+		
+		m.setCycle(a, b, opposite(a), opposite(b));
+		
+		return a;
+	}
+	
+}
@@ -0,0 +1,87 @@
+package multij.tools;
+
+import static multij.tools.Manifold.opposite;
+import static multij.tools.Manifold.Traversor.FACE;
+import static multij.tools.Manifold.Traversor.VERTEX;
+import static multij.tools.Tools.ints;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import multij.primitivelists.IntList;
+
+/**
+ * Automated tests using JUnit 4 for {@link ManifoldGraph}.
+ * 
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ManifoldGraphTest {
+	
+	@Test
+	public final void test1() {
+		final int n = 6;
+		final Manifold m = newPolygon(n);
+		final ManifoldGraph vertices = new ManifoldGraph(m, VERTEX);
+		final ManifoldGraph faces = new ManifoldGraph(m, FACE);
+		
+		assertEquals(n, vertices.getCellCount());
+		assertEquals(2, faces.getCellCount());
+		assertEquals(vertices.getCell(2), vertices.getCell(1));
+		assertEquals(3, vertices.getDart(2));
+		
+		{
+			final IntList order = new IntList();
+			
+			assertArrayEquals(ints(0, 1, 2, 3, 2, 1), vertices.getBreadthFirstLayers(order, 0));
+			assertEquals(n, order.size());
+			assertEquals(0, order.get(0));
+			assertEquals(3, order.get(n - 1));
+			assertArrayEquals(ints(1, 0), faces.getBreadthFirstLayers(null, 1));
+		}
+		
+		{
+			final int[] parentDarts = new int[n];
+			final double[] distances = vertices.getShortestPaths(d -> (d & 1) == 0 ? 1.0 : 10.0, parentDarts, 0);
+			
+			assertEquals("[0.0, 1.0, 2.0, 3.0, 4.0, 5.0]", Arrays.toString(distances));
+			assertArrayEquals(ints(-1, 0, 2, 4, 6, 8), parentDarts);
+		}
+		
+		assertArrayEquals(ints(-1, 0, 2, 4, 6, 8), vertices.getMinimumSpanningForest(d -> (d & 1) == 0 ? 1.0 : 10.0));
+		assertArrayEquals(ints(-1, 0, 2, 4, 9, 11), vertices.getMinimumSpanningForest(null));
+		assertTrue(ManifoldGraph.getCutGraph(m).isEmpty());
+	}
+	
+	@Test
+	public final void test2() {
+		final Manifold m = new Manifold();
+		final int a = m.newEdge();
+		final int b = m.newEdge();
+		
+		m.setCycle(a, b, opposite(a), opposite(b));
+		
+		final BitSet cutGraph = ManifoldGraph.getCutGraph(m);
+		
+		assertEquals(2, cutGraph.cardinality());
+	}
+	
+	private static final Manifold newPolygon(final int edgeCount) {
+		final Manifold result = new Manifold();
+		
+		result.newEdges(edgeCount);
+		
+		for (int i = 0; i < edgeCount; ++i) {
+			final int dart = 2 * i;
+			final int nextDart = 2 * ((i + 1) % edgeCount);
+			
+			result.setNext(dart, nextDart);
+			result.setNext(opposite(nextDart), opposite(dart));
+		}
+		
+		return result;
+	}
+	
+}
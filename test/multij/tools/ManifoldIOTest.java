@@ -0,0 +1,87 @@
+package multij.tools;
+
+import static multij.tools.Manifold.opposite;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+
+import org.junit.Test;
+
+/**
+ * Automated tests using JUnit 4 for {@link ManifoldIO}.
+ * 
+ * @author codistmonk (creation 2026-10-19)
+ */
+public final class ManifoldIOTest {
+	
+	@Test
+	public final void test1() throws Exception {
+		final File file = File.createTempFile("manifold", ".bin");
+		
+		file.deleteOnExit();
+		
+		for (final int edgeCount : new int[] { 0, 3, 300_000 }) {
+			final Manifold m = newPolygon(edgeCount);
+			
+			for (final boolean compressed : new boolean[] { false, true }) {
+				ManifoldIO.write(m, file.getPath(), compressed);
+				
+				final Manifold m2 = ManifoldIO.read(file.getPath(), true);
+				
+				assertEquals(m.getDartCount(), m2.getDartCount());
+				
+				for (int dart = 0; dart < m.getDartCount(); ++dart) {
+					assertEquals(m.getNext(dart), m2.getNext(dart));
+				}
+				
+				if (0 < edgeCount) {
+					assertTrue((compressed ? 3L : 4L) * m.getDartCount() + ManifoldIO.HEADER_SIZE >= file.length());
+				}
+			}
+		}
+	}
+	
+	@Test
+	public final void test2() throws Exception {
+		final File file = File.createTempFile("manifold", ".bin");
+		
+		file.deleteOnExit();
+		
+		ManifoldIO.write(newPolygon(3), file.getPath(), true);
+		
+		try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.seek(ManifoldIO.HEADER_SIZE);
+			
+			final int firstByte = raf.read();
+			
+			raf.seek(ManifoldIO.HEADER_SIZE);
+			raf.write(firstByte ^ 2);
+		}
+		
+		try {
+			ManifoldIO.read(file.getPath(), false);
+			fail();
+		} catch (final RuntimeException exception) {
+			assertTrue(exception.getCause() instanceof StreamCorruptedException);
+		}
+	}
+	
+	private static final Manifold newPolygon(final int edgeCount) {
+		final Manifold result = new Manifold();
+		
+		result.newEdges(edgeCount);
+		
+		for (int i = 0; i < edgeCount; ++i) {
+			final int dart = 2 * i;
+			final int nextDart = 2 * ((i + 1) % edgeCount);
+			
+			result.setNext(dart, nextDart);
+			result.setNext(opposite(nextDart), opposite(dart));
+		}
+		
+		return result;
+	}
+	
+}
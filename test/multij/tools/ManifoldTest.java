@@ -5,9 +5,18 @@ import static multij.tools.Manifold.Traversor.DART;
 import static multij.tools.Manifold.Traversor.EDGE;
 import static multij.tools.Manifold.Traversor.FACE;
 import static multij.tools.Manifold.Traversor.VERTEX;
+import static multij.tools.Tools.ignore;
 import static multij.tools.Tools.ints;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.FutureTask;
+
 import org.junit.Test;
 
 import multij.primitivelists.IntList;
@@ -141,6 +150,269 @@ public final class ManifoldTest {
 		m.initializeNext(ab, ba);
 	}
 	
+	@Test
+	public final void test4() {
+		final Manifold m = new Manifold();
+		final Manifold.DoubleAttribute positions = m.newDoubleAttribute(VERTEX, 2);
+		final Manifold.DoubleAttribute weights = m.newDoubleAttribute(FACE, 1);
+		final Manifold.IntAttribute labels = m.newIntAttribute(EDGE, 1);
+		
+		final int ab = m.newEdge();
+		final int bc = m.newEdge();
+		final int ca = m.newEdge();
+		
+		m.setCycle(ab, bc, ca);
+		m.setCycle(opposite(ab), opposite(ca), opposite(bc));
+		
+		testValid(m, 6, 3);
+		assertEquals(6, positions.getSlotCount());
+		assertEquals(3, labels.getSlotCount());
+		
+		positions.set(ab, 0, 0.0).set(ab, 1, 0.0);
+		positions.set(bc, 0, 2.0).set(bc, 1, 0.0);
+		positions.set(ca, 0, 0.0).set(ca, 1, 2.0);
+		weights.set(ab, 1.0).set(opposite(ab), 2.0);
+		labels.set(ab, 5);
+		
+		assertEquals(0.0, positions.get(opposite(ab), 1), 0.0);
+		assertEquals(2.0, positions.get(opposite(ab), 0), 0.0);
+		assertEquals(1.0, weights.get(ca), 0.0);
+		assertEquals(2.0, weights.get(opposite(bc)), 0.0);
+		assertEquals(5, labels.get(opposite(ab)));
+		
+		final int db = m.cutEdge(ab);
+		final int ad = ab;
+		
+		testValid(m, 8, 4);
+		assertEquals(1.0, positions.get(db, 0), 0.0);
+		assertEquals(0.0, positions.get(db, 1), 0.0);
+		assertEquals(1.0, positions.get(opposite(ad), 0), 0.0);
+		assertEquals(2.0, positions.get(opposite(db), 0), 0.0);
+		assertEquals(positions.get(db, 0), positions.getValues()[positions.getOffset(db)], 0.0);
+		assertEquals(1.0, weights.get(db), 0.0);
+		assertEquals(2.0, weights.get(opposite(db)), 0.0);
+		assertEquals(5, labels.get(db));
+		
+		final int dc = m.cutFace(ad, bc);
+		
+		testValid(m, 10, 5);
+		assertEquals(1.0, positions.get(dc, 0), 0.0);
+		assertEquals(2.0, positions.get(opposite(dc), 1), 0.0);
+		assertEquals(1.0, weights.get(dc), 0.0);
+		assertEquals(1.0, weights.get(opposite(dc)), 0.0);
+		assertEquals(0, labels.get(dc));
+		
+		final Manifold m2 = m.copy();
+		
+		assertEquals(3, m2.getAttributes().size());
+		assertEquals(1.0, ((Manifold.DoubleAttribute) m2.getAttributes().get(0)).get(dc, 0), 0.0);
+		assertTrue(m.removeAttribute(labels));
+		assertEquals(2, m.getAttributes().size());
+		
+		m.clear();
+		m.newEdge();
+		
+		assertEquals(2, positions.getSlotCount());
+		assertEquals(0.0, positions.get(0, 0), 0.0);
+	}
+	
+	@Test
+	public final void test5() {
+		final Manifold m = new Manifold();
+		final int ab = m.newEdge();
+		final int bc = m.newEdge();
+		final int ca = m.newEdge();
+		
+		m.setCycle(ab, bc, ca);
+		m.setCycle(opposite(ab), opposite(ca), opposite(bc));
+		m.cutEdge(ab);
+		
+		final Manifold.Cursor cursor = new Manifold.Cursor(m);
+		final IntList darts = new IntList();
+		
+		for (cursor.start(FACE, ab); cursor.hasNext();) {
+			darts.add(cursor.next());
+		}
+		
+		assertEquals(4, darts.size());
+		assertEquals(ab, darts.get(0));
+		assertEquals(m.getNext(ab), darts.get(1));
+		assertEquals(4, cursor.start(FACE, opposite(ab)).count());
+		assertEquals(2, cursor.start(VERTEX, ab).count());
+		assertEquals(2, cursor.start(EDGE, ab).count());
+		assertEquals(1, cursor.start(DART, ab).count());
+		assertEquals(ab + m.getNext(ab) + bc + ca, cursor.start(FACE, ab).sum(d -> d), 0.0);
+		assertEquals(ab + m.getNext(ab) + bc + ca, FACE.sum(m, ab, d -> d), 0.0);
+		
+		final BitSet marks = new BitSet();
+		
+		assertEquals(2, FACE.count(m, marks));
+		assertEquals(4, VERTEX.count(m, marks));
+		assertEquals(4, EDGE.count(m));
+	}
+	
+	@Test
+	public final void test6() throws Exception {
+		final Manifold m = new Manifold();
+		final int n = 2_500;
+		
+		for (int i = 0; i < n; ++i) {
+			final int edge = m.newEdge();
+			
+			m.initializeCycle(edge);
+			m.initializeCycle(opposite(edge));
+		}
+		
+		testValid(m, 2 * n, n);
+		
+		final Manifold snapshot = m.snapshot();
+		final String expected = snapshot.toString();
+		
+		assertTrue(snapshot.isReadOnly());
+		assertSame(snapshot, snapshot.snapshot());
+		
+		final FutureTask<?> reader = new FutureTask<>(() -> {
+			for (int i = 0; i < 10; ++i) {
+				assertEquals(1, FACE.countDarts(snapshot, 0));
+				assertEquals(2 * n, FACE.count(snapshot));
+			}
+		}, null);
+		
+		new Thread(reader).start();
+		
+		for (int i = 0; i < n; ++i) {
+			m.cutEdge(2 * i);
+		}
+		
+		reader.get();
+		
+		testValid(m, 4 * n, 2 * n);
+		testValid(snapshot, 2 * n, n);
+		assertEquals(expected, snapshot.toString());
+		assertEquals(2, FACE.countDarts(m, 0));
+		assertEquals(2 * n, FACE.count(m));
+		
+		final Manifold copy = snapshot.copy();
+		
+		assertFalse(copy.isReadOnly());
+		
+		copy.cutEdge(0);
+		
+		testValid(copy, 2 * n + 2, n + 1);
+		assertEquals(expected, snapshot.toString());
+		
+		try {
+			snapshot.cutEdge(0);
+			fail();
+		} catch (final IllegalStateException exception) {
+			ignore(exception);
+		}
+	}
+	
+	@Test
+	public final void test7() {
+		for (final boolean parallel : new boolean[] { false, true }) {
+			final Manifold expected = newHexagon();
+			final Manifold actual = newHexagon();
+			final IntList darts = new IntList(ints(0, 2, 9));
+			
+			for (int i = 0; i < darts.size(); ++i) {
+				assertEquals(12 + 2 * i, expected.cutEdge(darts.get(i)));
+			}
+			
+			assertEquals(12, actual.cutEdges(darts, parallel));
+			testValid(actual, 18, 9);
+			assertEquals(expected.toString(), actual.toString());
+			assertArrayEquals(getPositions(expected), getPositions(actual), 0.0);
+		}
+		
+		for (final boolean parallel : new boolean[] { false, true }) {
+			final Manifold expected = newHexagon();
+			final Manifold actual = newHexagon();
+			
+			expected.cutFace(0, 4);
+			expected.cutFace(6, 10);
+			
+			assertEquals(12, actual.cutFaces(new IntList(ints(0, 4, 6, 10)), parallel));
+			testValid(actual, 16, 8);
+			assertEquals(expected.toString(), actual.toString());
+			assertArrayEquals(getPositions(expected), getPositions(actual), 0.0);
+			assertEquals(4, FACE.count(actual));
+		}
+		
+		try {
+			newHexagon().cutEdges(new IntList(ints(0, 1)), false);
+			fail();
+		} catch (final IllegalArgumentException exception) {
+			ignore(exception);
+		}
+		
+		try {
+			newHexagon().cutFaces(new IntList(ints(0, 4, 4, 8)), false);
+			fail();
+		} catch (final IllegalArgumentException exception) {
+			ignore(exception);
+		}
+	}
+	
+	@Test
+	public final void test8() throws Exception {
+		// Triangle serialized with the layout preceding the chunked storage
+		try (final ObjectInputStream input = new ObjectInputStream(this.getClass().getResourceAsStream("legacy-manifold.ser"))) {
+			final Manifold legacy = (Manifold) input.readObject();
+			
+			testValid(legacy, 6, 3);
+			assertEquals("[2 5 4 1 0 3]", legacy.toString());
+			assertFalse(legacy.isReadOnly());
+			assertTrue(legacy.getAttributes().isEmpty());
+			assertEquals(6, legacy.newEdge());
+			assertEquals(8, legacy.getDartCount());
+		}
+		
+		final Manifold expected = newHexagon();
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		
+		try (final ObjectOutputStream output = new ObjectOutputStream(buffer)) {
+			output.writeObject(expected);
+		}
+		
+		try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			final Manifold actual = (Manifold) input.readObject();
+			
+			testValid(actual, 12, 6);
+			assertEquals(expected.toString(), actual.toString());
+			assertArrayEquals(getPositions(expected), getPositions(actual), 0.0);
+			
+			actual.cutEdge(0);
+			
+			assertEquals(12, expected.getDartCount());
+		}
+	}
+	
+	/**
+	 * @return A hexagon with a 1D {@link Traversor#VERTEX} attribute whose value at the start of dart <code>2 * i</code> is <code>i</code>
+	 */
+	private static final Manifold newHexagon() {
+		final Manifold result = new Manifold();
+		final Manifold.DoubleAttribute positions = result.newDoubleAttribute(VERTEX, 1);
+		
+		result.newEdges(6);
+		result.setCycle(0, 2, 4, 6, 8, 10);
+		result.setCycle(11, 9, 7, 5, 3, 1);
+		
+		for (int i = 0; i < 6; ++i) {
+			positions.set(2 * i, i);
+		}
+		
+		return result;
+	}
+	
+	private static final double[] getPositions(final Manifold manifold) {
+		final Manifold.DoubleAttribute positions = (Manifold.DoubleAttribute) manifold.getAttributes().get(0);
+		
+		return Arrays.copyOf(positions.getValues(), manifold.getDartCount());
+	}
+	
 	private static final void testValid(final Manifold m, final int expectedDartCount, final int expectedEdgeCount) {
 		assertTrue(m.isValid());
 		assertEquals(expectedDartCount, m.getDartCount());
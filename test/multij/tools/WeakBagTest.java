@@ -25,6 +25,12 @@
 package multij.tools;
 
 import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
 import multij.tools.WeakBag;
 
 import org.junit.Test;
@@ -64,4 +70,120 @@ public final class WeakBagTest {
         assertEquals(0, weakBag.getElementCount());
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testIteratorRemove() {
+        final WeakBag<String> weakBag = new WeakBag<String>();
+        final List<String> elements = new ArrayList<String>();
+
+        for (int i = 0; i < 100; ++i) {
+            elements.add(Integer.toString(i));
+            weakBag.append(elements.get(i));
+        }
+
+        for (final Iterator<String> i = weakBag.iterator(); i.hasNext();) {
+            if (Integer.parseInt(i.next()) % 2 == 0) {
+                i.remove();
+            }
+        }
+
+        assertEquals(50, weakBag.getElementCount());
+
+        int expected = 1;
+
+        for (final String element : weakBag) {
+            assertSame(elements.get(expected), element);
+            expected += 2;
+        }
+
+        assertEquals(101, expected);
+
+        for (int i = 0; i < 100; i += 2) {
+            elements.set(i + 1, null);
+        }
+
+        WeakBag.runGarbageCollector();
+
+        assertEquals(0, weakBag.getElementCount());
+        assertTrue(weakBag.isEmpty());
+    }
+
+    @Test
+    public final void testIteratorRemoveAfterRemove() {
+        final WeakBag<String> weakBag = new WeakBag<String>();
+        final String x = "x";
+        final String y = "y";
+
+        weakBag.append(x);
+        weakBag.append(y);
+
+        final Iterator<String> i = weakBag.iterator();
+
+        assertSame(x, i.next());
+
+        weakBag.remove(x);
+        i.remove();
+
+        assertEquals(1, weakBag.getElementCount());
+        assertFalse(weakBag.isEmpty());
+        assertSame(y, weakBag.iterator().next());
+    }
+
+    @Test
+    public final void testConcurrentAppendAndIterate() throws InterruptedException {
+        final WeakBag<Object> weakBag = new WeakBag<Object>();
+        final List<Object> elements = Collections.synchronizedList(new ArrayList<Object>());
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+        final List<Thread> threads = new ArrayList<Thread>();
+        final int threadCount = 4;
+        final int elementCount = 10000;
+
+        for (int i = 0; i < threadCount; ++i) {
+            final boolean writer = i % 2 == 0;
+
+            threads.add(new Thread(() -> {
+                try {
+                    int previousCount = 0;
+
+                    for (int j = 0; j < elementCount; ++j) {
+                        if (writer) {
+                            final Object element = new Object();
+
+                            elements.add(element);
+                            weakBag.append(element);
+                        } else {
+                            int count = 0;
+
+                            for (final Object element : weakBag) {
+                                assertNotNull(element);
+                                ++count;
+                            }
+
+                            assertTrue(previousCount <= count);
+                            previousCount = count;
+                        }
+                    }
+                } catch (final Throwable exception) {
+                    errors.add(exception);
+                }
+            }));
+        }
+
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(Collections.emptyList(), errors);
+        assertEquals(elements.size(), weakBag.getElementCount());
+
+        elements.clear();
+
+        WeakBag.runGarbageCollector();
+
+        assertEquals(0, weakBag.getElementCount());
+    }
+
+}